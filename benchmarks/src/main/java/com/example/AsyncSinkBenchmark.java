@@ -0,0 +1,61 @@
+package com.example;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+Printing every element of a parallel stream: `forEach(OUT::println)` vs `forEach(AsyncBatchingSink)`.
+
+- Both write to a stream that discards its bytes, so the benchmark measures locking, formatting and
+  encoding, not the terminal.
+- `printStream*` is the usual `System.out::println`: each worker takes the PrintStream lock per line and
+  flushes its buffered writer on every newline.
+- `asyncSink` formats on the workers, and one writer thread writes batches of up to 1024 lines;
+  close() is included so every line is really written.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncSinkBenchmark {
+
+    private static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private static final PrintStream OUT = new PrintStream(DISCARD, true);
+
+    @Benchmark
+    public void printStreamSequential(PersonData data) {
+        data.names.forEach(OUT::println);
+    }
+
+    @Benchmark
+    public void printStreamParallel(PersonData data) {
+        data.names.parallelStream().forEach(OUT::println);
+    }
+
+    @Benchmark
+    public long asyncSink(PersonData data) {
+        AsyncBatchingSink<String> sink = AsyncBatchingSink.<String>builder()
+                .toWriter(new BufferedWriter(new OutputStreamWriter(DISCARD), 1 << 16));
+        try {
+            data.names.parallelStream().forEach(sink);
+        } finally {
+            sink.close();
+        }
+        return sink.dropped();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example;
+
+import java.util.*;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+Runs the benchmarks with the GC profiler and prints a per-element summary.
+
+JMH reports `gc.alloc.rate.norm` per operation; one operation here processes `size`
+records, so this runner divides by `size` to get allocated bytes per element.
+
+Usage:
+    java -cp target/benchmarks.jar com.example.BenchmarkRunner [regular JMH options]
+    e.g. ... BenchmarkRunner "CollectorsApiBenchmark.*GroupingBy" -p size=1000,100000
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        System.out.println();
+        System.out.printf("%-55s %10s %6s %14s %-8s %12s%n",
+                "Benchmark", "size", "mode", "score", "units", "B/element");
+        for (RunResult run : results) {
+            BenchmarkParams params = run.getParams();
+            String sizeParam = params.getParam("size");
+            long size = sizeParam == null ? 1 : Long.parseLong(sizeParam);
+
+            Result primary = run.getPrimaryResult();
+            Result allocNorm = run.getSecondaryResults().get("gc.alloc.rate.norm");
+            double bytesPerElement = allocNorm == null ? Double.NaN : allocNorm.getScore() / size;
+
+            System.out.printf("%-55s %10d %6s %14.3f %-8s %12.2f%n",
+                    params.getBenchmark().replace("com.example.", ""),
+                    size,
+                    params.getMode().shortLabel(),
+                    primary.getScore(),
+                    primary.getScoreUnit(),
+                    bytesPerElement);
+        }
+    }
+}
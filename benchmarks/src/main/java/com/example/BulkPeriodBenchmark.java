@@ -0,0 +1,50 @@
+package com.example;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+Ages in years for n birthdays stored as epoch days, against a fixed reference date.
+
+- `periodBetween` is the JavaTimeDemo way: Period.between(LocalDate.ofEpochDay(day), today) per row.
+- `bulkPeriods` fills an int[] with BulkPeriods.years: no objects per row, fork/join chunks above 16K rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkPeriodBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    public int size;
+
+    final LocalDate today = LocalDate.of(2025, 11, 10);
+    int[] birthdays;
+    int[] years;
+
+    @Setup
+    public void setUp() {
+        birthdays = RandomStreams.ints(42L, size, (int) LocalDate.of(1930, 1, 1).toEpochDay(),
+                (int) LocalDate.of(2020, 1, 1).toEpochDay()).toArray();
+        years = new int[size];
+    }
+
+    @Benchmark
+    public int[] periodBetween() {
+        for (int i = 0; i < size; i++) {
+            years[i] = Period.between(LocalDate.ofEpochDay(birthdays[i]), today).getYears();
+        }
+        return years;
+    }
+
+    @Benchmark
+    public int[] bulkPeriods() {
+        BulkPeriods.years(birthdays, today, years);
+        return years;
+    }
+}
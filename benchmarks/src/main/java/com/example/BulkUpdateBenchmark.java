@@ -0,0 +1,66 @@
+package com.example;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+Adding a bonus to every score: sequential `replaceAll` / `forEach` vs ParallelBulkUpdate.
+
+- `scores` is a HashMap<String, Integer>; both map variants rewrite the value of every existing entry.
+- `counters` holds one mutable int[1] per player; the BiConsumer increments it in place.
+- The parallel versions split by bucket / index ranges on the common pool; with a single worker they
+  fall back to the same sequential loop, so the scores should then match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BulkUpdateBenchmark {
+
+    private static final int BONUS = 5;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private Map<String, Integer> scores;
+    private List<int[]> counters;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scores = new HashMap<>();
+        counters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            scores.put("player" + i, i % 100);
+            counters.add(new int[1]);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Integer> mapReplaceAll() {
+        scores.replaceAll((name, score) -> score + BONUS);
+        return scores;
+    }
+
+    @Benchmark
+    public long mapParallelReplace() {
+        return ParallelBulkUpdate.replaceValues(scores, (name, score) -> score + BONUS);
+    }
+
+    @Benchmark
+    public List<int[]> listForEach() {
+        counters.forEach(counter -> counter[0] += BONUS);
+        return counters;
+    }
+
+    @Benchmark
+    public long listParallelUpdate() {
+        return ParallelBulkUpdate.updateElements(counters, BONUS, (counter, bonus) -> counter[0] += bonus);
+    }
+}
@@ -0,0 +1,264 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+Each collector from CollectorsApiExamples.main next to a plain for-loop doing the same work.
+
+- `stream*` methods are the collectors as written in the examples.
+- `loop*` methods are the hand-written equivalent (HashMap / counters).
+- `table*` methods run the same aggregation over the columnar PersonTable.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CollectorsApiBenchmark {
+
+    // 1. Collect to List
+    @Benchmark
+    public List<String> streamToListNames(PersonData data) {
+        return data.collectorPeople.stream()
+                .map(p -> p.name)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> loopToListNames(PersonData data) {
+        List<String> names = new ArrayList<>(data.collectorPeople.size());
+        for (CollectorsApiExamples.Person p : data.collectorPeople) {
+            names.add(p.name);
+        }
+        return names;
+    }
+
+    // 2. Collect to Set
+    @Benchmark
+    public Set<String> streamToSetCities(PersonData data) {
+        return data.collectorPeople.stream()
+                .map(p -> p.city)
+                .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public Set<String> loopToSetCities(PersonData data) {
+        Set<String> cities = new HashSet<>();
+        for (CollectorsApiExamples.Person p : data.collectorPeople) {
+            cities.add(p.city);
+        }
+        return cities;
+    }
+
+    // 3. Join strings
+    @Benchmark
+    public String streamJoining(PersonData data) {
+        return data.collectorPeople.stream()
+                .map(p -> p.name)
+                .collect(Collectors.joining(", "));
+    }
+
+    @Benchmark
+    public String loopJoining(PersonData data) {
+        StringBuilder sb = new StringBuilder();
+        for (CollectorsApiExamples.Person p : data.collectorPeople) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(p.name);
+        }
+        return sb.toString();
+    }
+
+    // 4. Count (people in London)
+    @Benchmark
+    public long streamCounting(PersonData data) {
+        return data.collectorPeople.stream()
+                .filter(p -> p.city.equals("London"))
+                .collect(Collectors.counting());
+    }
+
+    @Benchmark
+    public long loopCounting(PersonData data) {
+        long count = 0;
+        for (CollectorsApiExamples.Person p : data.collectorPeople) {
+            if (p.city.equals("London")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long tableCounting(PersonData data) {
+        int london = data.personTable.cityCodeOf("London");
+        return data.personTable.cityCodes().filter(code -> code == london).count();
+    }
+
+    // 5. Group By -> Map<City, List<Person>>
+    @Benchmark
+    public Map<String, List<CollectorsApiExamples.Person>> streamGroupingBy(PersonData data) {
+        return data.collectorPeople.stream()
+                .collect(Collectors.groupingBy(p -> p.city));
+    }
+
+    @Benchmark
+    public Map<String, List<CollectorsApiExamples.Person>> loopGroupingBy(PersonData data) {
+        Map<String, List<CollectorsApiExamples.Person>> result = new HashMap<>();
+        for (CollectorsApiExamples.Person p : data.collectorPeople) {
+            List<CollectorsApiExamples.Person> group = result.get(p.city);
+            if (group == null) {
+                group = new ArrayList<>();
+                result.put(p.city, group);
+            }
+            group.add(p);
+        }
+        return result;
+    }
+
+    // 6. Group By -> Map<City, Count>
+    @Benchmark
+    public Map<String, Long> streamGroupingByCounting(PersonData data) {
+        return data.collectorPeople.stream()
+                .collect(Collectors.groupingBy(p -> p.city, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<String, Long> loopGroupingByCounting(PersonData data) {
+        Map<String, Long> result = new HashMap<>();
+        for (CollectorsApiExamples.Person p : data.collectorPeople) {
+            Long count = result.get(p.city);
+            result.put(p.city, count == null ? 1L : count + 1);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, Long> tableGroupingByCounting(PersonData data) {
+        return data.personTable.countByCity();
+    }
+
+    // 7. Group By + Mapping -> Map<City, List<Name>>
+    @Benchmark
+    public Map<String, List<String>> streamGroupingByMapping(PersonData data) {
+        return data.collectorPeople.stream()
+                .collect(Collectors.groupingBy(p -> p.city,
+                        Collectors.mapping(p -> p.name, Collectors.toList())));
+    }
+
+    @Benchmark
+    public Map<String, List<String>> loopGroupingByMapping(PersonData data) {
+        Map<String, List<String>> result = new HashMap<>();
+        for (CollectorsApiExamples.Person p : data.collectorPeople) {
+            List<String> group = result.get(p.city);
+            if (group == null) {
+                group = new ArrayList<>();
+                result.put(p.city, group);
+            }
+            group.add(p.name);
+        }
+        return result;
+    }
+
+    // 8. Averaging (average ages)
+    @Benchmark
+    public double streamAveragingInt(PersonData data) {
+        return data.collectorPeople.stream()
+                .collect(Collectors.averagingInt(p -> p.age));
+    }
+
+    @Benchmark
+    public double loopAveragingInt(PersonData data) {
+        long sum = 0;
+        for (CollectorsApiExamples.Person p : data.collectorPeople) {
+            sum += p.age;
+        }
+        return data.collectorPeople.isEmpty() ? 0.0 : (double) sum / data.collectorPeople.size();
+    }
+
+    @Benchmark
+    public double tableAveragingInt(PersonData data) {
+        return data.personTable.ages().average().orElse(0.0);
+    }
+
+    // 9. Summing (sum ages)
+    @Benchmark
+    public int streamSummingInt(PersonData data) {
+        return data.collectorPeople.stream()
+                .collect(Collectors.summingInt(p -> p.age));
+    }
+
+    @Benchmark
+    public int loopSummingInt(PersonData data) {
+        int sum = 0;
+        for (CollectorsApiExamples.Person p : data.collectorPeople) {
+            sum += p.age;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int tableSummingInt(PersonData data) {
+        return data.personTable.ages().sum();
+    }
+
+    // 10. Max using Collectors.maxBy
+    @Benchmark
+    public Optional<CollectorsApiExamples.Person> streamMaxBy(PersonData data) {
+        return data.collectorPeople.stream()
+                .collect(Collectors.maxBy(Comparator.comparingInt(p -> p.age)));
+    }
+
+    @Benchmark
+    public Optional<CollectorsApiExamples.Person> loopMaxBy(PersonData data) {
+        CollectorsApiExamples.Person oldest = null;
+        for (CollectorsApiExamples.Person p : data.collectorPeople) {
+            if (oldest == null || p.age > oldest.age) {
+                oldest = p;
+            }
+        }
+        return Optional.ofNullable(oldest);
+    }
+
+    // 11. Convert to Map<name, city>
+    @Benchmark
+    public Map<String, String> streamToMap(PersonData data) {
+        return data.collectorPeople.stream()
+                .collect(Collectors.toMap(p -> p.name, p -> p.city));
+    }
+
+    @Benchmark
+    public Map<String, String> loopToMap(PersonData data) {
+        Map<String, String> result = new HashMap<>();
+        for (CollectorsApiExamples.Person p : data.collectorPeople) {
+            if (result.put(p.name, p.city) != null) {
+                throw new IllegalStateException("Duplicate key " + p.name);
+            }
+        }
+        return result;
+    }
+
+    // 12. Partitioning -> Two groups (age >= 30 and age < 30)
+    @Benchmark
+    public Map<Boolean, List<CollectorsApiExamples.Person>> streamPartitioningBy(PersonData data) {
+        return data.collectorPeople.stream()
+                .collect(Collectors.partitioningBy(p -> p.age >= 30));
+    }
+
+    @Benchmark
+    public Map<Boolean, List<CollectorsApiExamples.Person>> loopPartitioningBy(PersonData data) {
+        List<CollectorsApiExamples.Person> older = new ArrayList<>();
+        List<CollectorsApiExamples.Person> younger = new ArrayList<>();
+        for (CollectorsApiExamples.Person p : data.collectorPeople) {
+            (p.age >= 30 ? older : younger).add(p);
+        }
+        Map<Boolean, List<CollectorsApiExamples.Person>> result = new HashMap<>();
+        result.put(false, younger);
+        result.put(true, older);
+        return result;
+    }
+}
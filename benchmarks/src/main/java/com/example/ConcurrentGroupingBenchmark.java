@@ -0,0 +1,52 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+City counts and average ages on a parallel stream: stock collectors vs ConcurrentGroupingCollectors.
+
+- Only 8 distinct cities, so every worker hits the same few keys (the high-contention case).
+- `groupingBy` merges one HashMap per fork, `groupingByConcurrent` shares a map but boxes Long per update,
+  `concurrent*` share a map of LongAdders.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConcurrentGroupingBenchmark {
+
+    @Benchmark
+    public Map<String, Long> parallelGroupingByCounting(PersonData data) {
+        return data.collectorPeople.parallelStream()
+                .collect(Collectors.groupingBy(p -> p.city, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<String, Long> parallelGroupingByConcurrentCounting(PersonData data) {
+        return data.collectorPeople.parallelStream()
+                .collect(Collectors.groupingByConcurrent(p -> p.city, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<String, Long> concurrentCountingBy(PersonData data) {
+        return data.collectorPeople.parallelStream()
+                .collect(ConcurrentGroupingCollectors.countingBy(p -> p.city));
+    }
+
+    @Benchmark
+    public Map<String, Double> parallelGroupingByAveraging(PersonData data) {
+        return data.collectorPeople.parallelStream()
+                .collect(Collectors.groupingBy(p -> p.city, Collectors.averagingInt(p -> p.age)));
+    }
+
+    @Benchmark
+    public Map<String, Double> concurrentAveragingIntBy(PersonData data) {
+        return data.collectorPeople.parallelStream()
+                .collect(ConcurrentGroupingCollectors.averagingIntBy(p -> p.city, p -> p.age));
+    }
+}
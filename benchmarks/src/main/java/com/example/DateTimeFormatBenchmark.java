@@ -0,0 +1,65 @@
+package com.example;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+DateTimeFormatter vs FastDateTimeFormat for the JavaTimeDemo pattern "dd/MM/yyyy HH:mm".
+
+- format: `LocalDateTime.format(formatter)` vs `formatTo` into a reused StringBuilder.
+- parse: `LocalDateTime.parse(text, formatter)` vs `parse` / `parseEpochSecond`.
+- Run with BenchmarkRunner to see allocated bytes per call next to the timings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateTimeFormatBenchmark {
+
+    static final String PATTERN = "dd/MM/yyyy HH:mm";
+
+    final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(PATTERN);
+    final FastDateTimeFormat fastFormat = FastDateTimeFormat.of(PATTERN);
+    final StringBuilder buffer = new StringBuilder(64);
+    final LocalDateTime dateTime = LocalDateTime.of(2025, 12, 1, 10, 0);
+    final long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+    final String text = "01/12/2025 10:00";
+
+    @Benchmark
+    public String formatDateTimeFormatter() {
+        return dateTime.format(formatter);
+    }
+
+    @Benchmark
+    public StringBuilder formatFastIntoBuffer() {
+        buffer.setLength(0);
+        return fastFormat.formatTo(dateTime, buffer);
+    }
+
+    @Benchmark
+    public StringBuilder formatFastEpochSecondIntoBuffer() {
+        buffer.setLength(0);
+        return fastFormat.formatEpochSecondTo(epochSecond, buffer);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTimeFormatter() {
+        return LocalDateTime.parse(text, formatter);
+    }
+
+    @Benchmark
+    public LocalDateTime parseFast() {
+        return fastFormat.parse(text);
+    }
+
+    @Benchmark
+    public long parseFastEpochSecond() {
+        return fastFormat.parseEpochSecond(text);
+    }
+}
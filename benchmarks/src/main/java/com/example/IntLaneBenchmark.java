@@ -0,0 +1,107 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.*;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+Boxed Integer exercises vs the IntList primitive lane.
+
+- `boxed*` run List<Integer> through UnaryOperator / Predicate / BinaryOperator, as in the exercises.
+- `int*` run an IntList through IntUnaryOperator / IntPredicate / IntBinaryOperator.
+- Run with BenchmarkRunner (GC profiler): the int reduce and in-place map report ~0 B/element,
+  map and filter only their one result array (4 B/element).
+- The boxed lane stops at 10M elements; the int lane goes to 100M.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class IntLaneBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BoxedInput {
+        @Param({"1000000", "10000000"})
+        public int size;
+
+        List<Integer> numbers;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            numbers = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                numbers.add(random.nextInt(1000));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class IntInput {
+        @Param({"1000000", "10000000", "100000000"})
+        public int size;
+
+        IntList numbers;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            numbers = new IntList(size);
+            for (int i = 0; i < size; i++) {
+                numbers.add(random.nextInt(1000));
+            }
+        }
+    }
+
+    static final UnaryOperator<Integer> INCREMENT = n -> n + 1;
+    static final UnaryOperator<Integer> MULTIPLY_BY_TWO = n -> n * 2;
+    static final Function<Integer, Integer> INCREMENT_THEN_DOUBLE = INCREMENT.andThen(MULTIPLY_BY_TWO);
+    static final Predicate<Integer> IN_RANGE = ((Predicate<Integer>) n -> n > 3).and(n -> n < 600);
+    static final BinaryOperator<Integer> SUM = (a, b) -> a + b;
+
+    static final IntUnaryOperator INT_INCREMENT = n -> n + 1;
+    static final IntUnaryOperator INT_MULTIPLY_BY_TWO = n -> n * 2;
+    static final IntUnaryOperator INT_INCREMENT_THEN_DOUBLE = INT_INCREMENT.andThen(INT_MULTIPLY_BY_TWO);
+    static final IntPredicate INT_IN_RANGE = ((IntPredicate) n -> n > 3).and(n -> n < 600);
+    static final IntBinaryOperator INT_SUM = (a, b) -> a + b;
+
+    @Benchmark
+    public List<Integer> boxedMap(BoxedInput input) {
+        return input.numbers.stream().map(INCREMENT_THEN_DOUBLE).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public IntList intMap(IntInput input) {
+        return input.numbers.map(INT_INCREMENT_THEN_DOUBLE);
+    }
+
+    @Benchmark
+    public IntList intReplaceAll(IntInput input) {
+        // In place: increment then decrement so the values stay bounded across invocations
+        return input.numbers.replaceAll(INT_INCREMENT).replaceAll(n -> n - 1);
+    }
+
+    @Benchmark
+    public List<Integer> boxedFilter(BoxedInput input) {
+        return input.numbers.stream().filter(IN_RANGE).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public IntList intFilter(IntInput input) {
+        return input.numbers.filter(INT_IN_RANGE);
+    }
+
+    @Benchmark
+    public int boxedReduce(BoxedInput input) {
+        return input.numbers.stream().reduce(0, SUM);
+    }
+
+    @Benchmark
+    public int intReduce(IntInput input) {
+        return input.numbers.reduce(0, INT_SUM);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+Copying PersonData.names (an ArrayList) into a new list.
+
+- `supplier*` is the copyList(source, Supplier) body from SupplierVsDirect: factory.get() then addAll.
+- `copierArrayList` uses ListCopier.arrayList(): one toArray pass instead of toArray + arraycopy, or
+  fork/join chunks from PARALLEL_THRESHOLD (1M) elements on when the common pool has several workers.
+- `copierLinkedList` should match `supplierLinkedList`: both end in one LinkedList.addAll.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListCopyBenchmark {
+
+    @Benchmark
+    public List<String> supplierArrayList(PersonData data) {
+        List<String> copy = new ArrayList<>();
+        copy.addAll(data.names);
+        return copy;
+    }
+
+    @Benchmark
+    public List<String> copierArrayList(PersonData data) {
+        return ListCopier.copy(data.names, ListCopier.arrayList());
+    }
+
+    @Benchmark
+    public List<String> supplierLinkedList(PersonData data) {
+        List<String> copy = new LinkedList<>();
+        copy.addAll(data.names);
+        return copy;
+    }
+
+    @Benchmark
+    public List<String> copierLinkedList(PersonData data) {
+        return ListCopier.copy(data.names, n -> new LinkedList<>());
+    }
+}
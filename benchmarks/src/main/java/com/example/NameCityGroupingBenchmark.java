@@ -0,0 +1,81 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+Section 1 of StreamsCollectorsOptionalDemo: group names by city.
+
+- `rescan` is the original version, which scans the whole list for each name (O(n²)).
+  It only runs up to 10k people; beyond that one invocation takes minutes.
+- `indexed` builds a KeyedIndex once and looks names up through it (O(n)), up to 1M people.
+- Names repeat (every name appears twice), so both versions resolve the first match.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class NameCityGroupingBenchmark {
+
+    static abstract class Input {
+        List<StreamApiExamples.Person> people;
+
+        abstract int size();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            int size = size();
+            people = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                people.add(new StreamApiExamples.Person(
+                        "name" + (i % Math.max(1, size / 2)),
+                        18 + random.nextInt(60),
+                        PersonData.CITY_POOL[random.nextInt(PersonData.CITY_POOL.length)]));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SmallInput extends Input {
+        @Param({"1000", "5000", "10000"})
+        public int size;
+
+        int size() { return size; }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargeInput extends Input {
+        @Param({"1000", "10000", "100000", "1000000"})
+        public int size;
+
+        int size() { return size; }
+    }
+
+    @Benchmark
+    public Map<String, List<String>> rescan(SmallInput input) {
+        List<StreamApiExamples.Person> people = input.people;
+        return people.stream()
+                .filter(p -> p.age > 25)
+                .map(p -> p.name)
+                .collect(Collectors.groupingBy(
+                        name -> people.stream()
+                                      .filter(p -> p.name.equals(name))
+                                      .findFirst()
+                                      .get().city));
+    }
+
+    @Benchmark
+    public Map<String, List<String>> indexed(LargeInput input) {
+        List<StreamApiExamples.Person> people = input.people;
+        KeyedIndex<String, StreamApiExamples.Person> byName = KeyedIndex.of(people, p -> p.name);
+        return people.stream()
+                .filter(p -> p.age > 25)
+                .map(p -> p.name)
+                .collect(byName.groupingBy(p -> p.city));
+    }
+}
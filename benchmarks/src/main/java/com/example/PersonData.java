@@ -0,0 +1,62 @@
+package com.example;
+
+import java.util.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+Shared benchmark input.
+
+- One @State per trial, sized by the `size` parameter (10 .. 10M records).
+- Generated from a fixed seed so every pipeline and its loop version see the same data.
+- Names repeat (with mixed case) so distinct()/groupingBy have real work to do;
+  the Person names are unique so toMap never hits a duplicate key.
+ */
+@State(Scope.Benchmark)
+public class PersonData {
+
+    static final String[] NAME_POOL = {"alice", "bob", "ALICE", "charlie", "Daniel", "eve", "Frank", "grace"};
+    static final String[] CITY_POOL = {"London", "Paris", "Berlin", "Madrid", "Rome", "Vienna", "Prague", "Lisbon"};
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    List<String> names;
+    List<Integer> numbers;
+    List<List<Integer>> nestedList;
+    List<StreamApiExamples.Person> streamPeople;
+    List<CollectorsApiExamples.Person> collectorPeople;
+    PersonTable personTable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+
+        names = new ArrayList<>(size);
+        numbers = new ArrayList<>(size);
+        streamPeople = new ArrayList<>(size);
+        collectorPeople = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String poolName = NAME_POOL[random.nextInt(NAME_POOL.length)];
+            names.add(poolName + (i % 1000));
+            numbers.add(random.nextInt(100));
+
+            String name = "person" + i;
+            int age = 18 + random.nextInt(60);
+            String city = CITY_POOL[random.nextInt(CITY_POOL.length)];
+            streamPeople.add(new StreamApiExamples.Person(name, age, city));
+            collectorPeople.add(new CollectorsApiExamples.Person(name, age, city));
+        }
+
+        personTable = PersonTable.of(collectorPeople);
+
+        // Inner lists of 1..4 elements, `size` elements in total
+        nestedList = new ArrayList<>();
+        int i = 0;
+        while (i < size) {
+            int chunk = Math.min(1 + random.nextInt(4), size - i);
+            nestedList.add(new ArrayList<>(numbers.subList(i, i + chunk)));
+            i += chunk;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+Sorting people by name, then age (FunctionChainingExamples section 4).
+
+- `comparatorChain` is the stream version with Comparator.comparing(...).thenComparingInt(...).
+- `parallelComparatorChain` is the same comparator on a parallel stream.
+- `keyExtracting` is KeyExtractingSort: keys extracted once, index permutation merge-sorted in parallel.
+- Names come from a pool of 10k with shared prefixes, so prefix ties and full-string compares do happen.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class PersonSortBenchmark {
+
+    @Param({"100000", "1000000", "20000000"})
+    public int size;
+
+    List<StreamApiExamples.Person> people;
+
+    static final Comparator<StreamApiExamples.Person> NAME_THEN_AGE =
+            Comparator.comparing((StreamApiExamples.Person p) -> p.name).thenComparingInt(p -> p.age);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        people = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = PersonData.NAME_POOL[random.nextInt(PersonData.NAME_POOL.length)] + random.nextInt(10_000 / PersonData.NAME_POOL.length);
+            people.add(new StreamApiExamples.Person(name, 18 + random.nextInt(60), "London"));
+        }
+    }
+
+    @Benchmark
+    public List<StreamApiExamples.Person> comparatorChain() {
+        return people.stream().sorted(NAME_THEN_AGE).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<StreamApiExamples.Person> parallelComparatorChain() {
+        return people.parallelStream().sorted(NAME_THEN_AGE).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<StreamApiExamples.Person> keyExtracting() {
+        return KeyExtractingSort.sortByStringThenInt(people, p -> p.name, p -> p.age);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+The same filter/map pipeline over n Integers, with and without profile pollution.
+
+- `polluted=true` first runs six other filter/map lambda pairs through Stream and the shared
+  SpecializingPipeline stages, as a service with many pipelines would; `polluted=false` does not.
+- `stream` / `sharedPipeline` use the shared call sites, so they slow down once those are megamorphic.
+- `specializedPipeline` runs on its own copies of the stage classes and should not care.
+- Every param value runs in its own fork, so pollution from one run never leaks into another.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelinePollutionBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean polluted;
+
+    List<Integer> data;
+    final Predicate<Integer> notMultipleOfThree = n -> n % 3 != 0;
+    final Function<Integer, Integer> timesTwo = n -> n * 2;
+    SpecializingPipeline<Integer, Integer> shared;
+    SpecializingPipeline<Integer, Integer> specialized;
+
+    @Setup
+    public void setUp() {
+        data = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            data.add(i);
+        }
+        shared = SpecializingPipeline.<Integer>builder().filter(notMultipleOfThree).map(timesTwo).build();
+        specialized = SpecializingPipeline.<Integer>builder().filter(notMultipleOfThree).map(timesTwo)
+                .specialize("benchmark");
+        if (polluted) {
+            pollute();
+        }
+    }
+
+    private void pollute() {
+        List<Predicate<Integer>> filters = Arrays.asList(
+                n -> n > 10, n -> n % 2 == 0, n -> n < 1_000_000, n -> (n & 4) == 0, n -> n != 7, n -> n >= 0);
+        List<Function<Integer, Integer>> mappers = Arrays.asList(
+                n -> n + 1, n -> n - 1, n -> n * 3, n -> n >> 1, n -> -n, n -> n ^ 5);
+        long[] sink = new long[1];
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < filters.size(); i++) {
+                data.stream().filter(filters.get(i)).map(mappers.get(i)).forEach(n -> sink[0] += n);
+                SpecializingPipeline.<Integer>builder().filter(filters.get(i)).map(mappers.get(i)).build()
+                        .run(data, n -> sink[0] += n);
+            }
+        }
+    }
+
+    @Benchmark
+    public long stream() {
+        long[] sum = new long[1];
+        data.stream().filter(notMultipleOfThree).map(timesTwo).forEach(n -> sum[0] += n);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long sharedPipeline() {
+        long[] sum = new long[1];
+        shared.run(data, n -> sum[0] += n);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long specializedPipeline() {
+        long[] sum = new long[1];
+        specialized.run(data, n -> sum[0] += n);
+        return sum[0];
+    }
+}
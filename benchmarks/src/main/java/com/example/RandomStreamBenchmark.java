@@ -0,0 +1,42 @@
+package com.example;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+Summing n random doubles in a parallel stream.
+
+- `generateMathRandom` is the pattern from SupplierAdvancedExamples / FunctionalInterfaceExercises.
+- `splittableRandom` uses SplittableRandom.doubles(n): sized, but values depend on the split pattern.
+- `randomStreams` uses RandomStreams.doubles(seed, n): sized, no shared state, reproducible.
+- Compare scaling across core counts with -jvmArgsAppend -Djava.util.concurrent.ForkJoinPool.common.parallelism=N.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomStreamBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Benchmark
+    public double generateMathRandom() {
+        return Stream.generate(Math::random).parallel().limit(size).mapToDouble(Double::doubleValue).sum();
+    }
+
+    @Benchmark
+    public double splittableRandom() {
+        return new SplittableRandom(42L).doubles(size).parallel().sum();
+    }
+
+    @Benchmark
+    public double randomStreams() {
+        return RandomStreams.doubles(42L, size).parallel().sum();
+    }
+}
@@ -0,0 +1,169 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+Each pipeline from StreamApiExamples.main next to a plain for-loop doing the same work.
+
+- `stream*` methods are the pipelines as written in the examples.
+- `loop*` methods are the hand-written equivalent.
+- Every method returns its result so the JIT cannot drop the work.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StreamApiBenchmark {
+
+    // 1. filter + map + distinct + sorted + collect
+    @Benchmark
+    public List<String> streamFilterMapDistinctSorted(PersonData data) {
+        return data.names.stream()
+                .filter(name -> name.length() > 3)
+                .map(String::toLowerCase)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> loopFilterMapDistinctSorted(PersonData data) {
+        Set<String> seen = new HashSet<>();
+        List<String> result = new ArrayList<>();
+        for (String name : data.names) {
+            if (name.length() > 3) {
+                String lower = name.toLowerCase();
+                if (seen.add(lower)) {
+                    result.add(lower);
+                }
+            }
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    // 3. flatMap: List<List<Integer>> → List<Integer>
+    @Benchmark
+    public List<Integer> streamFlatMap(PersonData data) {
+        return data.nestedList.stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> loopFlatMap(PersonData data) {
+        List<Integer> result = new ArrayList<>();
+        for (List<Integer> inner : data.nestedList) {
+            result.addAll(inner);
+        }
+        return result;
+    }
+
+    // 4. Extract fields from objects (map)
+    @Benchmark
+    public List<String> streamMapNames(PersonData data) {
+        return data.streamPeople.stream()
+                .map(p -> p.name)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> loopMapNames(PersonData data) {
+        List<String> result = new ArrayList<>(data.streamPeople.size());
+        for (StreamApiExamples.Person p : data.streamPeople) {
+            result.add(p.name);
+        }
+        return result;
+    }
+
+    // 5. Business rule with Predicate (filter)
+    @Benchmark
+    public List<StreamApiExamples.Person> streamFilterAdults(PersonData data) {
+        return data.streamPeople.stream()
+                .filter(p -> p.age >= 25)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<StreamApiExamples.Person> loopFilterAdults(PersonData data) {
+        List<StreamApiExamples.Person> result = new ArrayList<>();
+        for (StreamApiExamples.Person p : data.streamPeople) {
+            if (p.age >= 25) {
+                result.add(p);
+            }
+        }
+        return result;
+    }
+
+    // 6. reduce (sum of integer list)
+    @Benchmark
+    public int streamReduceSum(PersonData data) {
+        return data.numbers.stream().reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int loopReduceSum(PersonData data) {
+        int sum = 0;
+        for (int n : data.numbers) {
+            sum += n;
+        }
+        return sum;
+    }
+
+    // 8. count, findFirst, anyMatch
+    @Benchmark
+    public long streamCountLondon(PersonData data) {
+        return data.streamPeople.stream()
+                .filter(p -> p.city.equals("London"))
+                .count();
+    }
+
+    @Benchmark
+    public long loopCountLondon(PersonData data) {
+        long count = 0;
+        for (StreamApiExamples.Person p : data.streamPeople) {
+            if (p.city.equals("London")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public Optional<StreamApiExamples.Person> streamFindFirstParis(PersonData data) {
+        return data.streamPeople.stream()
+                .filter(p -> p.city.equals("Paris"))
+                .findFirst();
+    }
+
+    @Benchmark
+    public Optional<StreamApiExamples.Person> loopFindFirstParis(PersonData data) {
+        for (StreamApiExamples.Person p : data.streamPeople) {
+            if (p.city.equals("Paris")) {
+                return Optional.of(p);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public boolean streamAnyMatchTeenager(PersonData data) {
+        return data.streamPeople.stream()
+                .anyMatch(p -> p.age < 20);
+    }
+
+    @Benchmark
+    public boolean loopAnyMatchTeenager(PersonData data) {
+        for (StreamApiExamples.Person p : data.streamPeople) {
+            if (p.age < 20) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+Per-minute event counts over n LocalDateTime events (one event every ~100 ms, slightly out of order).
+
+- `groupingByTruncatedTo` is the obvious version: groupingBy(t -> t.truncatedTo(MINUTES), counting()).
+- `tumblingCollector` uses TimeWindows.collector: the minute is found with epoch arithmetic.
+- `tumblingAggregator` uses TimeWindows.aggregator: only open windows are kept in memory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeWindowBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    LocalDateTime[] events;
+    final TimeWindows perMinute = TimeWindows.tumbling(Duration.ofMinutes(1));
+
+    @Setup
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.of(2025, 12, 1, 10, 0);
+        events = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            long jitter = (i * 7919L) % 2000; // up to 2 s out of order
+            events[i] = start.plusNanos((i * 100L - jitter) * 1_000_000L);
+        }
+    }
+
+    @Benchmark
+    public Map<LocalDateTime, Long> groupingByTruncatedTo() {
+        return Arrays.stream(events)
+                .collect(Collectors.groupingBy(t -> t.truncatedTo(ChronoUnit.MINUTES), Collectors.counting()));
+    }
+
+    @Benchmark
+    public SortedMap<LocalDateTime, Long> tumblingCollector() {
+        return Arrays.stream(events).collect(perMinute.collector(t -> t, Collectors.counting()));
+    }
+
+    @Benchmark
+    public long tumblingAggregator() {
+        long[] total = new long[1];
+        TimeWindows.Aggregator<LocalDateTime, ?, Long> rollup = perMinute.aggregator(t -> t,
+                Collectors.counting(), Duration.ofSeconds(5), (windowStart, count) -> total[0] += count);
+        for (LocalDateTime event : events) {
+            rollup.accept(event);
+        }
+        rollup.flush();
+        return total[0];
+    }
+}
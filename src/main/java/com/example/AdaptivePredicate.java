@@ -0,0 +1,254 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+AdaptivePredicate – an and/or chain of predicates that reorders its terms by measured cost and pass rate.
+
+`a.and(b).and(c)` always runs a first. If a is slow and almost always true, every element pays for it.
+For a commutative chain (terms without side effects, any order gives the same answer):
+
+- AND (`allOf`): stops at the first false term, so the best term to run first is cheap and often false.
+  Terms are ranked by  cost / (1 - passRate)  ascending.
+- OR (`anyOf`): stops at the first true term, so terms are ranked by  cost / passRate  ascending.
+
+How the statistics are gathered:
+    - about 1 in SAMPLE_RATE tests (chosen with ThreadLocalRandom) is sampled: each term it runs is timed with
+      System.nanoTime() and counted towards the term's evaluations / passes (LongAdder, safe in parallel streams).
+      Unsampled tests touch no shared state.
+    - the pass rate is passes / evaluations of the samples; reported evaluation counts are scaled by SAMPLE_RATE
+    - roughly every `reorderInterval` tests, the window's numbers are blended into an exponential moving average
+      (weight ALPHA for the new window) and the order is recomputed, so it follows drifting data
+    - pass rates are conditional: a term only sees the elements that earlier terms let through
+
+Example:
+    AdaptivePredicate<Integer> rule = AdaptivePredicate.<Integer>allOf()
+            .term("greaterThanThree", n -> n > 3)
+            .term("lessThanSix", n -> n < 6)
+            .build();
+    numbers.stream().filter(rule)...;
+    System.out.println(rule.statistics());
+ */
+public class AdaptivePredicate<T> implements Predicate<T> {
+
+    static final int SAMPLE_RATE = 64;
+    static final double ALPHA = 0.5;
+    static final long DEFAULT_REORDER_INTERVAL = 10_000;
+
+    private final boolean conjunction;
+    private final Term<T>[] terms;
+    private final long samplesPerReorder;
+    private final AtomicLong sampledTests = new AtomicLong();
+    private final AtomicBoolean reordering = new AtomicBoolean();
+    private volatile int[] order;
+    private volatile long reorders;
+
+    private AdaptivePredicate(boolean conjunction, List<Term<T>> terms, long reorderInterval) {
+        this.conjunction = conjunction;
+        Term<T>[] array = terms.toArray(newTermArray(terms.size()));
+        this.terms = array;
+        this.samplesPerReorder = Math.max(1, reorderInterval / SAMPLE_RATE);
+        int[] initial = new int[array.length];
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = i;
+        }
+        this.order = initial;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Term<T>[] newTermArray(int length) {
+        return (Term<T>[]) new Term<?>[length];
+    }
+
+    public static <T> Builder<T> allOf() {
+        return new Builder<>(true);
+    }
+
+    public static <T> Builder<T> anyOf() {
+        return new Builder<>(false);
+    }
+
+    @Override
+    public boolean test(T value) {
+        boolean sample = ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0;
+        boolean result = conjunction;
+        for (int index : order) {
+            Term<T> term = terms[index];
+            boolean passed;
+            if (sample) {
+                long start = System.nanoTime();
+                passed = term.predicate.test(value);
+                term.sampledNanos.add(System.nanoTime() - start);
+                term.evaluations.increment();
+                if (passed) {
+                    term.passes.increment();
+                }
+            } else {
+                passed = term.predicate.test(value);
+            }
+            if (passed != conjunction) {   // AND: first false decides, OR: first true decides
+                result = passed;
+                break;
+            }
+        }
+        // Only sampled tests touch the shared counter, so parallel streams rarely contend on it
+        if (sample && sampledTests.incrementAndGet() % samplesPerReorder == 0) {
+            reorder();
+        }
+        return result;
+    }
+
+    // Current term order, best first, with the smoothed statistics used to choose it
+    public List<TermStatistics> statistics() {
+        List<TermStatistics> result = new ArrayList<>();
+        for (int index : order) {
+            Term<T> term = terms[index];
+            result.add(new TermStatistics(term.name, term.passRate, term.costNanos, term.estimatedEvaluations));
+        }
+        return result;
+    }
+
+    public long reorders() {
+        return reorders;
+    }
+
+    private void reorder() {
+        if (!reordering.compareAndSet(false, true)) {
+            return; // another thread is already reordering
+        }
+        try {
+            for (Term<T> term : terms) {
+                term.updateEstimates();
+            }
+            Integer[] ranked = new Integer[terms.length];
+            for (int i = 0; i < ranked.length; i++) {
+                ranked[i] = i;
+            }
+            Arrays.sort(ranked, Comparator.comparingDouble(i -> rank(terms[i])));
+            int[] newOrder = new int[ranked.length];
+            for (int i = 0; i < ranked.length; i++) {
+                newOrder[i] = ranked[i];
+            }
+            order = newOrder;
+            reorders++;
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    // Expected cost per decision: lower runs first
+    private double rank(Term<T> term) {
+        double decisive = conjunction ? 1.0 - term.passRate : term.passRate;
+        return term.costNanos / Math.max(decisive, 1e-6);
+    }
+
+    @Override
+    public String toString() {
+        return (conjunction ? "allOf" : "anyOf") + statistics();
+    }
+
+    // --- One term of the chain and its counters ---
+    private static class Term<T> {
+        final String name;
+        final Predicate<? super T> predicate;
+        // Sampled evaluations only
+        final LongAdder evaluations = new LongAdder();
+        final LongAdder passes = new LongAdder();
+        final LongAdder sampledNanos = new LongAdder();
+
+        // Smoothed estimates, written only while holding the reorder flag
+        volatile double passRate = 0.5;
+        volatile double costNanos = 1.0;
+        volatile long estimatedEvaluations;
+        boolean measured;
+
+        Term(String name, Predicate<? super T> predicate) {
+            this.name = name;
+            this.predicate = predicate;
+        }
+
+        void updateEstimates() {
+            long evaluated = evaluations.sumThenReset();
+            long passed = passes.sumThenReset();
+            long nanos = sampledNanos.sumThenReset();
+            if (evaluated > 0) {
+                double windowPassRate = (double) passed / evaluated;
+                double windowCost = Math.max((double) nanos / evaluated, 1.0);
+                passRate = measured ? ALPHA * windowPassRate + (1 - ALPHA) * passRate : windowPassRate;
+                costNanos = measured ? ALPHA * windowCost + (1 - ALPHA) * costNanos : windowCost;
+                estimatedEvaluations += evaluated * SAMPLE_RATE;
+                measured = true;
+            }
+        }
+    }
+
+    public static class TermStatistics {
+        private final String name;
+        private final double passRate;
+        private final double costNanos;
+        private final long estimatedEvaluations;
+
+        TermStatistics(String name, double passRate, double costNanos, long estimatedEvaluations) {
+            this.name = name;
+            this.passRate = passRate;
+            this.costNanos = costNanos;
+            this.estimatedEvaluations = estimatedEvaluations;
+        }
+
+        public String name() { return name; }
+        public double passRate() { return passRate; }
+        public double costNanos() { return costNanos; }
+        public long estimatedEvaluations() { return estimatedEvaluations; }
+
+        @Override
+        public String toString() {
+            return String.format("%s(pass=%.2f, cost=%.1fns, ~%d evaluations)",
+                    name, passRate, costNanos, estimatedEvaluations);
+        }
+    }
+
+    public static class Builder<T> {
+        private final boolean conjunction;
+        private final List<Term<T>> terms = new ArrayList<>();
+        private long reorderInterval = DEFAULT_REORDER_INTERVAL;
+
+        private Builder(boolean conjunction) {
+            this.conjunction = conjunction;
+        }
+
+        public Builder<T> term(String name, Predicate<? super T> predicate) {
+            terms.add(new Term<>(Objects.requireNonNull(name), Objects.requireNonNull(predicate)));
+            return this;
+        }
+
+        public Builder<T> term(Predicate<? super T> predicate) {
+            return term("term" + terms.size(), predicate);
+        }
+
+        // How many test() calls between two reorders
+        public Builder<T> reorderInterval(long interval) {
+            if (interval <= 0) {
+                throw new IllegalArgumentException("interval must be positive: " + interval);
+            }
+            this.reorderInterval = interval;
+            return this;
+        }
+
+        // Every predicate built gets fresh terms: counters and estimates are never shared
+        public AdaptivePredicate<T> build() {
+            if (terms.isEmpty()) {
+                throw new IllegalStateException("At least one term is required");
+            }
+            List<Term<T>> fresh = new ArrayList<>(terms.size());
+            for (Term<T> term : terms) {
+                fresh.add(new Term<>(term.name, term.predicate));
+            }
+            return new AdaptivePredicate<>(conjunction, fresh, reorderInterval);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.example;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+AsyncBatchingSink – a Consumer that hands lines to a background writer instead of printing them itself.
+
+`parallelStream().forEach(System.out::println)` makes every worker take the PrintStream lock once per
+element. With this sink:
+    - the calling thread formats the element (in parallel) and puts the line into a bounded ring buffer:
+      one CAS on the tail counter, no lock
+    - one background thread takes up to `batchSize` lines at a time, joins them and writes the batch
+      to a Writer or a FileChannel with a single call
+    - the target is flushed after every batch, so `flush()` and `close()` only wait for the batch
+      holding their last line
+
+| Backpressure | Ring buffer full                                             |
+| ------------ | ------------------------------------------------------------ |
+| `BLOCK`      | the producer waits (parks) until the writer makes room       |
+| `DROP`       | the line is discarded and counted in `dropped()`             |
+
+- `close()` writes every line whose accept() returned before close() was called, flushes, and stops
+  the writer thread (try-with-resources).
+  A failure of the target is rethrown by the next accept / flush / close: an IOException as
+  UncheckedIOException, anything else wrapped in IllegalStateException.
+- A null line from the formatter is written as "null", like println does.
+- Lines keep the order in which producers claimed their slot; lines from different threads interleave.
+- `asBiConsumer((k, v) -> ...)` adapts the sink for Map.forEach and other BiConsumer pipelines.
+
+Example:
+    try (AsyncBatchingSink<Integer> out = AsyncBatchingSink.<Integer>builder().toStdout()) {
+        numbers.parallelStream().map(n -> n * 2).forEach(out);
+    }
+ */
+public final class AsyncBatchingSink<T> implements Consumer<T>, AutoCloseable {
+
+    public enum Backpressure { BLOCK, DROP }
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Function<? super T, String> formatter;
+    private final Target target;
+    private final int batchSize;
+    private final Backpressure backpressure;
+    private final String lineSeparator = System.lineSeparator();
+
+    // Ring buffer: producers claim sequence numbers on tail, the writer consumes from head
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    private final Thread writerThread;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+    private volatile long flushedSequence;   // every line below this sequence is written and flushed
+    private volatile Throwable failure;
+    private final LongAdder dropped = new LongAdder();
+
+    private AsyncBatchingSink(Builder<T> builder, Target target) {
+        this.formatter = builder.formatter;
+        this.target = target;
+        this.batchSize = builder.batchSize;
+        this.backpressure = builder.backpressure;
+        this.slots = new AtomicReferenceArray<>(builder.capacity);
+        this.mask = builder.capacity - 1;
+        this.writerThread = new Thread(this::writeLoop, builder.threadName);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public void accept(T element) {
+        checkOpen();
+        String line = formatter.apply(element);
+        if (line == null) {
+            line = "null";   // a null slot means "claimed, not stored yet" to the writer
+        }
+        while (true) {
+            long sequence = tail.get();
+            if (sequence - head >= slots.length()) {
+                if (backpressure == Backpressure.DROP) {
+                    dropped.increment();
+                    return;
+                }
+                wakeWriter();
+                LockSupport.parkNanos(1_000);   // BLOCK: wait for the writer to make room
+                checkOpen();
+                if (!writerThread.isAlive()) {
+                    rethrowFailure();
+                    throw new IllegalStateException("Sink writer has stopped");
+                }
+                continue;
+            }
+            if (tail.compareAndSet(sequence, sequence + 1)) {
+                slots.lazySet((int) sequence & mask, line);
+                wakeWriter();
+                return;
+            }
+        }
+    }
+
+    public <K, V> BiConsumer<K, V> asBiConsumer(BiFunction<? super K, ? super V, ? extends T> combine) {
+        return (key, value) -> accept(combine.apply(key, value));
+    }
+
+    // Waits until every line accepted so far is written and the target flushed
+    public void flush() {
+        long target = tail.get();
+        while (flushedSequence < target) {
+            rethrowFailure();
+            if (!writerThread.isAlive()) {
+                break;
+            }
+            wakeWriter();
+            LockSupport.parkNanos(10_000);
+        }
+        rethrowFailure();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writerThread);
+        boolean interrupted = false;
+        while (writerThread.isAlive()) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        rethrowFailure();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Sink is closed");
+        }
+        rethrowFailure();
+    }
+
+    private void rethrowFailure() {
+        Throwable e = failure;
+        if (e instanceof IOException) {
+            throw new UncheckedIOException((IOException) e);
+        }
+        if (e != null) {
+            throw new IllegalStateException("Sink writer failed", e);
+        }
+    }
+
+    // Producers only pay for an unpark when the writer is actually asleep
+    private void wakeWriter() {
+        if (writerParked) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    // --- Writer thread ---
+
+    private void writeLoop() {
+        StringBuilder batch = new StringBuilder();
+        try {
+            while (true) {
+                boolean closing = closed;   // read before draining: lines accepted before close() are in the ring
+                int taken = drainBatch(batch);
+                if (taken > 0) {
+                    target.write(batch);
+                    target.flush();
+                    flushedSequence = head; // flush() callers need not wait for an idle ring
+                    batch.setLength(0);
+                    continue;
+                }
+                if (tail.get() != head) {
+                    Thread.yield();         // a producer claimed a slot but has not stored its line yet
+                    continue;
+                }
+                if (closing) {
+                    return;
+                }
+                writerParked = true;
+                if (tail.get() == head && !closed) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                writerParked = false;
+            }
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            try {
+                target.close();
+            } catch (Throwable e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+    }
+
+    private int drainBatch(StringBuilder batch) {
+        long sequence = head;
+        int taken = 0;
+        while (taken < batchSize) {
+            int index = (int) (sequence + taken) & mask;
+            String line = slots.get(index);
+            if (line == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            batch.append(line).append(lineSeparator);
+            taken++;
+        }
+        head = sequence + taken;    // frees the slots for producers
+        return taken;
+    }
+
+    // --- Output targets ---
+
+    private interface Target {
+        void write(CharSequence batch) throws IOException;
+
+        void flush() throws IOException;
+
+        void close() throws IOException;
+    }
+
+    private static final class WriterTarget implements Target {
+        private final Writer writer;
+        private final boolean closeWriter;
+
+        WriterTarget(Writer writer, boolean closeWriter) {
+            this.writer = writer;
+            this.closeWriter = closeWriter;
+        }
+
+        @Override
+        public void write(CharSequence batch) throws IOException {
+            writer.append(batch);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closeWriter) {
+                writer.close();
+            } else {
+                writer.flush();
+            }
+        }
+    }
+
+    private static final class ChannelTarget implements Target {
+        private final FileChannel channel;
+
+        ChannelTarget(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(CharSequence batch) throws IOException {
+            ByteBuffer bytes = ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+
+        @Override
+        public void flush() {
+            // FileChannel.write goes straight to the OS; force() (fsync) is left to the caller
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    public static final class Builder<T> {
+        private int capacity = 1 << 14;
+        private int batchSize = 1024;
+        private Backpressure backpressure = Backpressure.BLOCK;
+        private Function<? super T, String> formatter = String::valueOf;
+        private String threadName = "async-sink-writer";
+
+        private Builder() {
+        }
+
+        // Ring buffer slots, rounded up to a power of two
+        public Builder<T> capacity(int capacity) {
+            if (capacity <= 0 || capacity > 1 << 30) {
+                throw new IllegalArgumentException("capacity must be in 1..2^30: " + capacity);
+            }
+            int rounded = 1;
+            while (rounded < capacity) {
+                rounded <<= 1;
+            }
+            this.capacity = rounded;
+            return this;
+        }
+
+        // Maximum lines per write call
+        public Builder<T> batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder<T> backpressure(Backpressure backpressure) {
+            this.backpressure = Objects.requireNonNull(backpressure);
+            return this;
+        }
+
+        // Turns an element into its line (without line separator); runs on the producer thread
+        public Builder<T> format(Function<? super T, String> formatter) {
+            this.formatter = Objects.requireNonNull(formatter);
+            return this;
+        }
+
+        public Builder<T> threadName(String threadName) {
+            this.threadName = Objects.requireNonNull(threadName);
+            return this;
+        }
+
+        // close() flushes the writer and closes it
+        public AsyncBatchingSink<T> toWriter(Writer writer) {
+            return new AsyncBatchingSink<>(this, new WriterTarget(Objects.requireNonNull(writer), true));
+        }
+
+        // close() flushes System.out but leaves it open
+        public AsyncBatchingSink<T> toStdout() {
+            return new AsyncBatchingSink<>(this, new WriterTarget(new OutputStreamWriter(System.out), false));
+        }
+
+        // close() closes the channel
+        public AsyncBatchingSink<T> toChannel(FileChannel channel) {
+            return new AsyncBatchingSink<>(this, new ChannelTarget(Objects.requireNonNull(channel)));
+        }
+    }
+}
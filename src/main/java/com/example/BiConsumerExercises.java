@@ -1,6 +1,7 @@
 package com.example;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 
 /**
@@ -72,5 +73,29 @@ public class BiConsumerExercises {
             System.out.println(key + ": " + person);
         };
         personMap.forEach(updateAndPrint);
+
+        // --- Exercise 6: Map.forEach into an asynchronous batched sink ---
+        System.out.println("\n=== Exercise 6: BiConsumer into AsyncBatchingSink ===");
+        try (AsyncBatchingSink<String> sink = AsyncBatchingSink.<String>builder().toStdout()) {
+            BiConsumer<String, Person> printAsync = sink.asBiConsumer((key, person) -> key + " -> " + person);
+            personMap.forEach(printAsync);
+        }
+
+        // --- Exercise 7: Parallel in-place bulk updates ---
+        System.out.println("\n=== Exercise 7: ParallelBulkUpdate ===");
+        long agedPeople = ParallelBulkUpdate.updateElements(people, 2, increaseAge);
+        System.out.println("People touched: " + agedPeople + " -> " + people);
+        long agedInMap = ParallelBulkUpdate.updateValues(personMap, (key, person) -> person.age += 1);
+        System.out.println("Map entries touched: " + agedInMap + " -> " + personMap);
+
+        Map<String, Integer> manyScores = new HashMap<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            manyScores.put("player" + i, i % 100);
+        }
+        long start = System.nanoTime();
+        long touched = ParallelBulkUpdate.replaceValues(manyScores, (name, score) -> score + bonus);
+        long micros = (System.nanoTime() - start) / 1_000;
+        System.out.println("Bonus applied to " + touched + " scores in " + micros + " us on "
+                + ForkJoinPool.getCommonPoolParallelism() + " worker(s); player42 = " + manyScores.get("player42"));
     }
 }
@@ -73,5 +73,17 @@ public class BiFunctionExercises {
         System.out.println("\n=== Exercise 6: BiFunction for calculations ===");
         BiFunction<Double, Double, Double> hypotenuse = (a, b) -> Math.sqrt(a * a + b * b);
         System.out.println("Hypotenuse of 3 and 4: " + hypotenuse.apply(3.0, 4.0)); // Output: 5.0
+
+        // --- Exercise 7: Zip two lists into a splittable stream ---
+        System.out.println("\n=== Exercise 7: Zip two lists with a BiFunction ===");
+        List<String> zippedNames = Zip.zip(firstNames, lastNames, fullName)
+                                      .parallel() // splits evenly, order is kept
+                                      .collect(Collectors.toList());
+        System.out.println(zippedNames); // Output: [Alice Smith, Bob Johnson, Charlie Brown]
+
+        double[] sideA = {3.0, 5.0, 8.0};
+        double[] sideB = {4.0, 12.0, 15.0};
+        double[] hypotenuses = Zip.zipInto(sideA, sideB, (a, b) -> Math.sqrt(a * a + b * b), new double[3]);
+        System.out.println(Arrays.toString(hypotenuses)); // Output: [5.0, 13.0, 17.0]
     }
 }
@@ -77,5 +77,21 @@ public class BiPredicateExercises {
                                          .collect(Collectors.toList());
 
         filteredPairs.forEach(pair -> System.out.println(Arrays.toString(pair))); // Output: [5, 10], [6, 7], [3, 8]
+
+        // --- Exercise 6: Packed pairs with a primitive IntBiPredicate ---
+        System.out.println("\n=== Exercise 6: Filter packed pairs with IntBiPredicate ===");
+        IntPairBuffer packedPairs = new IntPairBuffer();
+        packedPairs.add(1, 2);
+        packedPairs.add(5, 10);
+        packedPairs.add(6, 7);
+        packedPairs.add(3, 8);
+
+        IntBiPredicate sumGreaterThanTenInt = (a, b) -> (a + b) > 10;
+        SelectionVector selected = packedPairs.filter(sumGreaterThanTenInt, new SelectionVector());
+        System.out.println("Selected indexes: " + selected); // Output: [1, 2, 3]
+
+        // Next stage reuses the selection: keep pairs where the first value is even
+        packedPairs.filter(selected, (a, b) -> a % 2 == 0, selected);
+        selected.forEach(i -> System.out.println("[" + packedPairs.first(i) + ", " + packedPairs.second(i) + "]")); // Output: [6, 7]
     }
 }
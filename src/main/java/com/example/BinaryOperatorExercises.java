@@ -2,6 +2,7 @@ package com.example;
 
 import java.util.*;
 import java.util.function.BinaryOperator;
+import java.util.function.IntBinaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -73,6 +74,17 @@ public class BinaryOperatorExercises {
         Point p3 = combinePoints.apply(p1, p2);
         System.out.println("Combined point: " + p3); // Output: (4, 6)
 
+        // Reducing many points with combinePoints creates a new Point per element.
+        // A mutable reduction adds into one accumulator per worker and creates the result Point once.
+        MutableReduction<Point, long[], Point> sumPoints = MutableReduction.of(
+                () -> new long[2],                                  // new accumulator
+                (acc, p) -> { acc[0] += p.x; acc[1] += p.y; },      // accumulate in place
+                (left, right) -> { left[0] += right[0]; left[1] += right[1]; }, // combine in place
+                acc -> new Point((int) acc[0], (int) acc[1]));      // freeze
+        List<Point> points = Arrays.asList(p1, p2, new Point(5, 6));
+        System.out.println("Sum of points: " + sumPoints.reduce(points));         // Output: (9, 12)
+        System.out.println("Parallel sum: " + sumPoints.parallelReduce(points));  // Output: (9, 12)
+
         // --- Exercise 7: Max string by length ---
         System.out.println("\n=== Exercise 7: Max string by length ===");
         List<String> words = Arrays.asList("apple", "banana", "kiwi", "strawberry");
@@ -82,5 +94,19 @@ public class BinaryOperatorExercises {
                               .reduce(maxByLength)
                               .orElse(""); // returns empty string if list is empty
         System.out.println("Longest word: " + longest); // Output: strawberry
+
+        // Top 2 instead of top 1: a bounded heap, no full sort
+        List<String> twoLongest = words.stream()
+                                       .collect(TopK.largestByInt(2, String::length));
+        System.out.println("Two longest words: " + twoLongest); // Output: [strawberry, banana]
+
+        // --- Exercise 8: Primitive lane with IntBinaryOperator (no boxing) ---
+        System.out.println("\n=== Exercise 8: IntBinaryOperator reduce over IntList ===");
+        IntList intNumbers = IntList.of(1, 2, 3, 4, 5);
+        IntBinaryOperator intSum = (a, b) -> a + b;
+        IntBinaryOperator intMultiply = (a, b) -> a * b;
+        System.out.println("Total sum: " + intNumbers.reduce(0, intSum));         // Output: 15
+        System.out.println("Total product: " + intNumbers.reduce(1, intMultiply)); // Output: 120
+        System.out.println("Max: " + intNumbers.reduce(Math::max).orElse(0));      // Output: 5
     }
 }
@@ -0,0 +1,161 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+BlockingStageExecutor – runs blocking Function / Supplier calls (file lookups, local services) concurrently
+and returns their results in input order.
+
+`inputs.stream().map(slowLookup)` waits for one call at a time, and a parallel stream only overlaps as many
+calls as the common pool has workers. This executor keeps up to `maxConcurrency` calls in flight:
+
+| Runtime        | Calls run on                                                | OS threads for 5000 waiting calls |
+| -------------- | ----------------------------------------------------------- | --------------------------------- |
+| Java 21+ (JAR) | one virtual thread per call                                 | a handful of carriers             |
+| Java 8 .. 20   | a platform pool of min(maxConcurrency, 256) daemon threads  | up to 256                         |
+
+- The choice is made by BlockingThreads, which the multi-release JAR ships in two versions
+  (src/main/java and src/main/java21, built by the `java21` Maven profile on JDK 21+).
+  Classes loaded from target/classes, outside the JAR, always use the Java 8 version.
+- A Semaphore bounds the calls in flight for the whole executor, also across concurrent callers;
+  the submitting thread waits for a permit, so a huge input never queues more than maxConcurrency tasks.
+- Results are collected from the futures in input order, whatever order the calls finish in.
+- A failing call stops the submission of further calls at once; then the first failing call (in input
+  order) cancels the remaining ones, and its RuntimeException or Error is rethrown as is.
+- After close(), `map` / `getAll` throw RejectedExecutionException.
+- Do not call `map` / `getAll` from inside a call on the same executor: on the platform pool the outer
+  calls can hold every thread while the inner ones wait.
+
+Example:
+    try (BlockingStageExecutor io = BlockingStageExecutor.create(1000)) {
+        List<String> contents = io.map(paths, path -> readFile(path));
+    }
+ */
+public final class BlockingStageExecutor implements AutoCloseable {
+
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    private BlockingStageExecutor(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.executor = BlockingThreads.newExecutor(maxConcurrency, "blocking-stage");
+    }
+
+    public static BlockingStageExecutor create(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        return new BlockingStageExecutor(maxConcurrency);
+    }
+
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public boolean usesVirtualThreads() {
+        return BlockingThreads.virtual();
+    }
+
+    // Applies call to every input concurrently; result i belongs to input i
+    public <T, R> List<R> map(Collection<? extends T> inputs, Function<? super T, ? extends R> call) {
+        Objects.requireNonNull(call);
+        List<Future<R>> futures = new ArrayList<>(inputs.size());
+        AtomicBoolean failed = new AtomicBoolean();
+        try {
+            for (T input : inputs) {
+                Future<R> future = submit(() -> {
+                    try {
+                        return call.apply(input);
+                    } catch (Throwable e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                }, failed);
+                if (future == null) {
+                    break;   // a call already failed: collect() rethrows it and cancels the rest
+                }
+                futures.add(future);
+            }
+            return collect(futures);
+        } catch (RejectedExecutionException e) {
+            cancel(futures);   // e.g. map() after close(): the calls already submitted must not outlive it
+            throw e;
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for blocking calls", e);
+        }
+    }
+
+    // Calls every supplier concurrently; result i comes from supplier i
+    public <R> List<R> getAll(List<? extends Supplier<? extends R>> calls) {
+        return map(calls, Supplier::get);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "BlockingStageExecutor on " + BlockingThreads.describe(maxConcurrency);
+    }
+
+    // Null when a call of the same map() has failed, checked again after waiting for the permit
+    private <R> Future<R> submit(Callable<R> call, AtomicBoolean failed) throws InterruptedException {
+        if (failed.get()) {
+            return null;
+        }
+        permits.acquire();   // at most maxConcurrency calls in flight
+        if (failed.get()) {
+            permits.release();
+            return null;
+        }
+        FutureTask<R> task = new FutureTask<R>(call) {
+            @Override
+            protected void done() {
+                permits.release();   // runs once: on completion, failure, or cancellation before the call started
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+        return task;
+    }
+
+    private static <R> List<R> collect(List<Future<R>> futures) throws InterruptedException {
+        List<R> results = new ArrayList<>(futures.size());
+        for (Future<R> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                cancel(futures);
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+        return results;
+    }
+
+    private static void cancel(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+BlockingThreads – where BlockingStageExecutor runs its blocking calls. Java 8 version: platform threads.
+
+A multi-release JAR replaces this class on Java 21+ with META-INF/versions/21/com/example/BlockingThreads.class
+(source in src/main/java21), which starts a virtual thread per call. Both versions have the same members.
+
+- The pool has at most PLATFORM_THREAD_LIMIT threads, however high the requested concurrency: every
+  platform thread is an OS thread with its own stack. Calls beyond the limit wait in the queue.
+- Idle threads time out after 10 seconds, so an unused executor holds no threads.
+ */
+final class BlockingThreads {
+
+    static final int PLATFORM_THREAD_LIMIT = 256;
+
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private BlockingThreads() {
+    }
+
+    static boolean virtual() {
+        return false;
+    }
+
+    static ExecutorService newExecutor(int maxConcurrency, String namePrefix) {
+        int threads = Math.min(maxConcurrency, PLATFORM_THREAD_LIMIT);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads(namePrefix + "-" + POOL_NUMBER.incrementAndGet() + "-"));
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    static String describe(int maxConcurrency) {
+        return "platform threads (up to " + Math.min(maxConcurrency, PLATFORM_THREAD_LIMIT) + ")";
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
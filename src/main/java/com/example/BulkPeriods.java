@@ -0,0 +1,164 @@
+package com.example;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+BulkPeriods – Period.between(start, reference) for a whole int[] column of epoch days at once.
+
+`Period.between(birthday, today)` creates a LocalDate per birthday and a Period per result. For tens of
+millions of rows this computes the same numbers with int arithmetic only:
+    1. the reference date is split into year / month / day once
+    2. each epoch day is turned into year / month / day with H. Hinnant's days_to_civil
+    3. the LocalDate.until rules are applied: whole months first, then the remaining days,
+       with the same clamping (Jan 31 + 1 month = Feb 28/29) and the same sign handling
+    4. results go into the caller's int[] years (and optionally months / days)
+
+- Results equal Period.between(LocalDate.ofEpochDay(start[i]), reference) exactly, including birthdays
+  on Feb 29 and start dates after the reference (negative periods).
+- Above SEQUENTIAL_THRESHOLD elements the range is split into fork/join chunks on the common pool.
+  Nothing is allocated per element.
+
+Example:
+    int[] ages = new int[birthdays.length];
+    BulkPeriods.years(birthdays, LocalDate.now(), ages);
+ */
+public final class BulkPeriods {
+
+    static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    private BulkPeriods() {
+    }
+
+    // years[i] = Period.between(LocalDate.ofEpochDay(startEpochDays[i]), reference).getYears()
+    public static void years(int[] startEpochDays, LocalDate reference, int[] years) {
+        between(startEpochDays, reference, years, null, null);
+    }
+
+    // months and days may be null when only some of the fields are needed
+    public static void between(int[] startEpochDays, LocalDate reference, int[] years, int[] months, int[] days) {
+        Objects.requireNonNull(reference);
+        int length = startEpochDays.length;
+        checkLength(years, length, "years");
+        checkLength(months, length, "months");
+        checkLength(days, length, "days");
+        Reference end = new Reference(reference);
+        if (length > SEQUENTIAL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new Chunk(startEpochDays, end, years, months, days, 0, length));
+        } else {
+            compute(startEpochDays, end, years, months, days, 0, length);
+        }
+    }
+
+    private static void checkLength(int[] target, int length, String name) {
+        if (target != null && target.length < length) {
+            throw new IllegalArgumentException(name + " holds " + target.length + " values, need " + length);
+        }
+    }
+
+    // --- The reference date, split into fields once ---
+    private static final class Reference {
+        final long epochDay;
+        final int day;
+        final long prolepticMonth;
+        final int lengthOfMonth;
+        final long previousMonthStart;     // epoch day of the 1st of the month before
+        final int previousMonthLength;
+
+        Reference(LocalDate date) {
+            epochDay = date.toEpochDay();
+            day = date.getDayOfMonth();
+            prolepticMonth = date.getYear() * 12L + date.getMonthValue() - 1;
+            lengthOfMonth = date.lengthOfMonth();
+            LocalDate previousMonth = date.withDayOfMonth(1).minusMonths(1);
+            previousMonthStart = previousMonth.toEpochDay();
+            previousMonthLength = previousMonth.lengthOfMonth();
+        }
+    }
+
+    private static final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] start;
+        private final Reference end;
+        private final int[] years;
+        private final int[] months;
+        private final int[] days;
+        private final int from;
+        private final int to;
+
+        Chunk(int[] start, Reference end, int[] years, int[] months, int[] days, int from, int to) {
+            this.start = start;
+            this.end = end;
+            this.years = years;
+            this.months = months;
+            this.days = days;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                BulkPeriods.compute(start, end, years, months, days, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Chunk(start, end, years, months, days, from, mid),
+                    new Chunk(start, end, years, months, days, mid, to));
+        }
+    }
+
+    // Same steps as LocalDate.until(ChronoLocalDate), on primitive fields
+    private static void compute(int[] start, Reference end, int[] years, int[] months, int[] days,
+                                int from, int to) {
+        for (int i = from; i < to; i++) {
+            // days_to_civil; int division by constants when the date is in year 0 or later (z >= 0)
+            long z = start[i] + 719_468L;
+            int startDay;
+            int startMonth;
+            long startYear;
+            if (z >= 0) {
+                int era = (int) z / 146_097;
+                int dayOfEra = (int) z - era * 146_097;
+                int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+                int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+                int mp = (5 * dayOfYear + 2) / 153;
+                startDay = dayOfYear - (153 * mp + 2) / 5 + 1;
+                startMonth = mp < 10 ? mp + 3 : mp - 9;
+                startYear = yearOfEra + era * 400 + (startMonth <= 2 ? 1 : 0);
+            } else {
+                long era = Math.floorDiv(z, 146_097L);
+                long dayOfEra = z - era * 146_097;
+                long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+                long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+                long mp = (5 * dayOfYear + 2) / 153;
+                startDay = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+                startMonth = (int) (mp < 10 ? mp + 3 : mp - 9);
+                startYear = yearOfEra + era * 400 + (startMonth <= 2 ? 1 : 0);
+            }
+
+            long totalMonths = end.prolepticMonth - (startYear * 12 + startMonth - 1);
+            int dayDiff = end.day - startDay;
+            if (totalMonths > 0 && dayDiff < 0) {
+                totalMonths--;
+                // start.plusMonths(totalMonths) always lands in the month before the reference;
+                // its day is clamped to that month's length (Jan 31 -> Feb 28/29)
+                int clampedDay = Math.min(startDay, end.previousMonthLength);
+                dayDiff = (int) (end.epochDay - (end.previousMonthStart + clampedDay - 1));
+            } else if (totalMonths < 0 && dayDiff > 0) {
+                totalMonths++;
+                dayDiff -= end.lengthOfMonth;
+            }
+            years[i] = (int) (totalMonths / 12);
+            if (months != null) {
+                months[i] = (int) (totalMonths % 12);
+            }
+            if (days != null) {
+                days[i] = dayDiff;
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+CallSiteProfiler – counts how many distinct lambda classes reach each pipeline stage.
+
+HotSpot inlines a call like `mapper.apply(x)` only while the call site has seen at most two receiver
+classes (monomorphic / bimorphic). Every `stream().map(...)` in the JVM goes through the same call site
+inside the JDK, so a service with many pipelines makes that site megamorphic and nothing gets inlined.
+
+- Off by default; turn on with `-Dcallsite.profile=true` or `CallSiteProfiler.enable()`.
+- `map(stage, fn)` / `filter(stage, pred)` record fn's class under the stage name and return fn itself:
+  nothing is wrapped, so the pipeline runs exactly as before.
+- Every recording is also counted under the JDK call site it ends up in ("Stream.map", "Stream.filter"),
+  which shows how polluted that shared site is.
+- SpecializingPipeline records its own stages here too, under the call site that really runs them.
+- `report()` lists each site with its distinct classes; more than MAX_INLINED_RECEIVERS is megamorphic.
+
+Example:
+    names.stream().map(CallSiteProfiler.map("upperCase", String::toUpperCase))...
+    CallSiteProfiler.printReport();
+ */
+public final class CallSiteProfiler {
+
+    static final int MAX_INLINED_RECEIVERS = 2;
+
+    private static volatile boolean enabled = Boolean.getBoolean("callsite.profile");
+    private static final ConcurrentMap<String, Set<String>> SITES = new ConcurrentHashMap<>();
+
+    private CallSiteProfiler() {
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void reset() {
+        SITES.clear();
+    }
+
+    public static <T, R> Function<T, R> map(String stage, Function<T, R> mapper) {
+        if (enabled) {
+            record(stage, mapper);
+            record("Stream.map (shared JDK call site)", mapper);
+        }
+        return mapper;
+    }
+
+    public static <T> Predicate<T> filter(String stage, Predicate<T> predicate) {
+        if (enabled) {
+            record(stage, predicate);
+            record("Stream.filter (shared JDK call site)", predicate);
+        }
+        return predicate;
+    }
+
+    // Records that receiver's class reached the given call site
+    public static void record(String site, Object receiver) {
+        if (enabled) {
+            SITES.computeIfAbsent(site, s -> ConcurrentHashMap.newKeySet()).add(receiver.getClass().getName());
+        }
+    }
+
+    // One entry per site, most polluted first
+    public static List<SiteProfile> report() {
+        List<SiteProfile> profiles = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> entry : SITES.entrySet()) {
+            profiles.add(new SiteProfile(entry.getKey(), new TreeSet<>(entry.getValue())));
+        }
+        profiles.sort(Comparator.comparingInt(SiteProfile::receiverTypes).reversed()
+                .thenComparing(SiteProfile::site));
+        return profiles;
+    }
+
+    public static void printReport() {
+        for (SiteProfile profile : report()) {
+            System.out.println("  " + profile);
+        }
+    }
+
+    public static class SiteProfile {
+        private final String site;
+        private final Set<String> receiverClasses;
+
+        SiteProfile(String site, Set<String> receiverClasses) {
+            this.site = site;
+            this.receiverClasses = Collections.unmodifiableSet(receiverClasses);
+        }
+
+        public String site() { return site; }
+        public Set<String> receiverClasses() { return receiverClasses; }
+        public int receiverTypes() { return receiverClasses.size(); }
+
+        public boolean isMegamorphic() {
+            return receiverClasses.size() > MAX_INLINED_RECEIVERS;
+        }
+
+        @Override
+        public String toString() {
+            String shape = receiverClasses.size() == 1 ? "monomorphic"
+                    : isMegamorphic() ? "MEGAMORPHIC" : "bimorphic";
+            return String.format("%-40s %2d lambda class(es)  %s", site, receiverClasses.size(), shape);
+        }
+    }
+}
@@ -110,6 +110,12 @@ public class CollectorsApiExamples {
                         .collect(Collectors.maxBy(Comparator.comparingInt(p -> p.age)));
         oldest.ifPresent(System.out::println);
 
+        // Top 2 oldest (maxBy for k elements)
+        List<Person> twoOldest =
+                people.stream()
+                        .collect(TopK.largestByInt(2, p -> p.age));
+        System.out.println(twoOldest);
+
         // 11. Convert to Map<name, city>
         Map<String, String> nameToCity =
                 people.stream()
@@ -121,5 +127,23 @@ public class CollectorsApiExamples {
                 people.stream()
                         .collect(Collectors.partitioningBy(p -> p.age >= 30));
         System.out.println(partitioned);
+
+        // 13. Columnar PersonTable -> same aggregations over primitive columns
+        PersonTable table = people.stream().collect(PersonTable.toTable());
+        System.out.println(table.countByCity());                 // same as 6.
+        System.out.println(table.ages().average().orElse(0.0));  // same as 8.
+        System.out.println(table.ages().sum());                  // same as 9.
+        System.out.println(table.averageAgeByCity());
+
+        // 14. Concurrent grouping -> one shared map with striped counters, for parallel streams
+        Map<String, Long> concurrentCountByCity =
+                people.parallelStream()
+                        .collect(ConcurrentGroupingCollectors.countingBy(p -> p.city));
+        System.out.println(concurrentCountByCity + " same as sequential? " + concurrentCountByCity.equals(countByCity));
+
+        Map<String, Double> concurrentAvgAgeByCity =
+                people.parallelStream()
+                        .collect(ConcurrentGroupingCollectors.averagingIntBy(p -> p.city, p -> p.age));
+        System.out.println(concurrentAvgAgeByCity);
     }
 }
@@ -0,0 +1,198 @@
+package com.example;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+CompactPerson – a person record whose optional fields cost no extra objects.
+
+| Field           | WithOptionals (old layout) | CompactPerson                            |
+| --------------- | -------------------------- | ---------------------------------------- |
+| email, phone    | `Optional<String>`         | `String`, null when absent               |
+| age             | `OptionalInt`              | `int` + bit AGE in `present`             |
+| loyaltyPoints   | `OptionalLong`             | `long` + bit LOYALTY_POINTS in `present` |
+
+- Every present Optional / OptionalInt / OptionalLong field is one more 16-24 byte object per record,
+  plus a 4-8 byte reference to it. CompactPerson stores the values inline; primitives are marked present
+  in a one-byte bitmap.
+- Optional views are created only when asked for: `email()`, `age()`, ... Hot code can use the
+  allocation-free accessors `emailOrNull()`, `hasAge()`, `ageOr(-1)` instead.
+- `Builder` is reusable: set fields, `build()`, `clear()`, repeat – handy when loading millions of rows.
+- HeapFootprint.report(...) compares the two layouts (see OptionalExercises, Exercise 8).
+ */
+public final class CompactPerson {
+
+    private static final byte AGE = 1;
+    private static final byte LOYALTY_POINTS = 1 << 1;
+
+    private final String name;
+    private final String email;        // null = absent
+    private final String phone;        // null = absent
+    private final int age;             // valid only if (present & AGE) != 0
+    private final long loyaltyPoints;  // valid only if (present & LOYALTY_POINTS) != 0
+    private final byte present;
+
+    private CompactPerson(Builder builder) {
+        this.name = Objects.requireNonNull(builder.name, "name");
+        this.email = builder.email;
+        this.phone = builder.phone;
+        this.age = builder.age;
+        this.loyaltyPoints = builder.loyaltyPoints;
+        this.present = builder.present;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    // --- Optional views (allocate only when a value is present) ---
+
+    public Optional<String> email() {
+        return Optional.ofNullable(email);
+    }
+
+    public Optional<String> phone() {
+        return Optional.ofNullable(phone);
+    }
+
+    public OptionalInt age() {
+        return hasAge() ? OptionalInt.of(age) : OptionalInt.empty();
+    }
+
+    public OptionalLong loyaltyPoints() {
+        return hasLoyaltyPoints() ? OptionalLong.of(loyaltyPoints) : OptionalLong.empty();
+    }
+
+    // --- Allocation-free accessors ---
+
+    public String emailOrNull() {
+        return email;
+    }
+
+    public String phoneOrNull() {
+        return phone;
+    }
+
+    public boolean hasAge() {
+        return (present & AGE) != 0;
+    }
+
+    public int ageOr(int defaultValue) {
+        return hasAge() ? age : defaultValue;
+    }
+
+    public boolean hasLoyaltyPoints() {
+        return (present & LOYALTY_POINTS) != 0;
+    }
+
+    public long loyaltyPointsOr(long defaultValue) {
+        return hasLoyaltyPoints() ? loyaltyPoints : defaultValue;
+    }
+
+    public WithOptionals toOptionalLayout() {
+        return new WithOptionals(name, email(), phone(), age(), loyaltyPoints());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactPerson)) {
+            return false;
+        }
+        CompactPerson other = (CompactPerson) o;
+        return present == other.present && ageOr(0) == other.ageOr(0)
+                && loyaltyPointsOr(0) == other.loyaltyPointsOr(0) && name.equals(other.name)
+                && Objects.equals(email, other.email) && Objects.equals(phone, other.phone);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, email, phone, ageOr(0), loyaltyPointsOr(0), present);
+    }
+
+    @Override
+    public String toString() {
+        return "CompactPerson{name=" + name + ", email=" + email() + ", phone=" + phone()
+                + ", age=" + age() + ", loyaltyPoints=" + loyaltyPoints() + "}";
+    }
+
+    public static final class Builder {
+        private String name;
+        private String email;
+        private String phone;
+        private int age;
+        private long loyaltyPoints;
+        private byte present;
+
+        private Builder() {
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder email(String email) {
+            this.email = email;
+            return this;
+        }
+
+        public Builder phone(String phone) {
+            this.phone = phone;
+            return this;
+        }
+
+        public Builder age(int age) {
+            this.age = age;
+            this.present |= AGE;
+            return this;
+        }
+
+        public Builder loyaltyPoints(long loyaltyPoints) {
+            this.loyaltyPoints = loyaltyPoints;
+            this.present |= LOYALTY_POINTS;
+            return this;
+        }
+
+        public CompactPerson build() {
+            return new CompactPerson(this);
+        }
+
+        // Forget all fields so the builder can be reused for the next record
+        public Builder clear() {
+            name = null;
+            email = null;
+            phone = null;
+            age = 0;
+            loyaltyPoints = 0;
+            present = 0;
+            return this;
+        }
+    }
+
+    // --- The Optional-typed layout CompactPerson replaces, kept for comparison ---
+    public static final class WithOptionals {
+        final String name;
+        final Optional<String> email;
+        final Optional<String> phone;
+        final OptionalInt age;
+        final OptionalLong loyaltyPoints;
+
+        WithOptionals(String name, Optional<String> email, Optional<String> phone, OptionalInt age,
+                      OptionalLong loyaltyPoints) {
+            this.name = name;
+            this.email = email;
+            this.phone = phone;
+            this.age = age;
+            this.loyaltyPoints = loyaltyPoints;
+        }
+    }
+}
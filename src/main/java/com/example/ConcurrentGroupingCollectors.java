@@ -0,0 +1,114 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+/**
+ConcurrentGroupingCollectors – grouping collectors that share one map across all parallel workers.
+
+- `Collectors.groupingBy` in a parallel stream gives every fork its own HashMap and merges them pairwise.
+- These collectors are CONCURRENT + UNORDERED: all workers accumulate into one ConcurrentHashMap,
+  and each key holds LongAdder counters, which are striped so that threads hitting the same key
+  rarely contend on one memory location.
+- The result is a plain `Map<K, Long>` / `Map<K, Double>`, same as the sequential collectors.
+
+| Stock collector                                | Concurrent version                   |
+| ---------------------------------------------- | ------------------------------------ |
+| `groupingBy(classifier, counting())`           | `countingBy(classifier)`             |
+| `groupingBy(classifier, summingLong(mapper))`  | `summingIntBy(classifier, mapper)`   |
+| `groupingBy(classifier, averagingInt(mapper))` | `averagingIntBy(classifier, mapper)` |
+ */
+public final class ConcurrentGroupingCollectors {
+
+    private ConcurrentGroupingCollectors() {
+    }
+
+    public static <T, K> Collector<T, ?, Map<K, Long>> countingBy(Function<? super T, ? extends K> classifier) {
+        return Collector.of(
+                ConcurrentHashMap<K, LongAdder>::new,
+                (map, element) -> counter(map, classifier.apply(element)).increment(),
+                ConcurrentGroupingCollectors::mergeAdders,
+                ConcurrentGroupingCollectors::sums,
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static <T, K> Collector<T, ?, Map<K, Long>> summingIntBy(Function<? super T, ? extends K> classifier,
+                                                                    ToIntFunction<? super T> mapper) {
+        return Collector.of(
+                ConcurrentHashMap<K, LongAdder>::new,
+                (map, element) -> counter(map, classifier.apply(element)).add(mapper.applyAsInt(element)),
+                ConcurrentGroupingCollectors::mergeAdders,
+                ConcurrentGroupingCollectors::sums,
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static <T, K> Collector<T, ?, Map<K, Double>> averagingIntBy(Function<? super T, ? extends K> classifier,
+                                                                       ToIntFunction<? super T> mapper) {
+        return Collector.of(
+                ConcurrentHashMap<K, SumCount>::new,
+                (map, element) -> sumCount(map, classifier.apply(element)).add(mapper.applyAsInt(element)),
+                (left, right) -> {
+                    right.forEach((key, value) -> sumCount(left, key).addAll(value));
+                    return left;
+                },
+                map -> {
+                    Map<K, Double> result = new HashMap<>();
+                    map.forEach((key, value) -> result.put(key, value.average()));
+                    return result;
+                },
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    // get() first: on Java 8 computeIfAbsent locks the bin even when the key is already present
+    private static <K> LongAdder counter(ConcurrentMap<K, LongAdder> map, K key) {
+        LongAdder adder = map.get(key);
+        return adder != null ? adder : map.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    private static <K> SumCount sumCount(ConcurrentMap<K, SumCount> map, K key) {
+        SumCount sumCount = map.get(key);
+        return sumCount != null ? sumCount : map.computeIfAbsent(key, k -> new SumCount());
+    }
+
+    // Required by the Collector contract; parallel streams use a single shared container with these collectors
+    private static <K> ConcurrentHashMap<K, LongAdder> mergeAdders(ConcurrentHashMap<K, LongAdder> left,
+                                                                   ConcurrentHashMap<K, LongAdder> right) {
+        right.forEach((key, value) -> counter(left, key).add(value.sum()));
+        return left;
+    }
+
+    private static <K> Map<K, Long> sums(ConcurrentHashMap<K, LongAdder> map) {
+        Map<K, Long> result = new HashMap<>();
+        map.forEach((key, value) -> result.put(key, value.sum()));
+        return result;
+    }
+
+    // Striped sum and count for one key
+    private static class SumCount {
+        final LongAdder sum = new LongAdder();
+        final LongAdder count = new LongAdder();
+
+        void add(long value) {
+            sum.add(value);
+            count.increment();
+        }
+
+        void addAll(SumCount other) {
+            sum.add(other.sum.sum());
+            count.add(other.count.sum());
+        }
+
+        double average() {
+            long n = count.sum();
+            return n == 0 ? 0.0 : (double) sum.sum() / n;
+        }
+    }
+}
@@ -61,5 +61,16 @@ public class ConsumerExercises {
         Consumer<Person> incrementAge = person -> person.age += 1;
         people.forEach(incrementAge);
         people.forEach(person -> System.out.println(person));
+
+        // --- Exercise 6: Consumer that batches output on a background thread ---
+        System.out.println("\n=== Exercise 6: AsyncBatchingSink ===");
+        try (AsyncBatchingSink<Person> sink = AsyncBatchingSink.<Person>builder()
+                .format(person -> "Async: " + person)
+                .toStdout()) {
+            Consumer<Person> printAsync = sink;
+            people.forEach(incrementAge.andThen(printAsync));
+            sink.flush();   // everything accepted so far is on stdout now
+            System.out.println("Dropped lines: " + sink.dropped());
+        }
     }
 }
@@ -0,0 +1,299 @@
+package com.example;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+FastDateTimeFormat – fixed-width date/time patterns compiled once, formatted and parsed without temporary objects.
+
+| Letter | Field          | Width | Range     |
+| ------ | -------------- | ----- | --------- |
+| `yyyy` | year           | 4     | 0001-9999 |
+| `MM`   | month          | 2     | 01-12     |
+| `dd`   | day of month   | 2     | 01-31     |
+| `HH`   | hour of day    | 2     | 00-23     |
+| `mm`   | minute         | 2     | 00-59     |
+| `ss`   | second         | 2     | 00-59     |
+| `SSS`  | millisecond    | 3     | 000-999   |
+
+Anything else that is not a letter (`/ : - . space T`) is a literal; letters can be quoted: `'T'`.
+
+- `FastDateTimeFormat.of("dd/MM/yyyy HH:mm")` compiles the pattern once and caches it (thread-safe registry).
+- `formatTo(dateTime, sb)` appends digits straight into the caller's StringBuilder; `formatTo(dateTime, buf, off)`
+  writes into a char[]. `formatEpochSecondTo` formats a UTC epoch second without creating a LocalDateTime.
+- `parse` reads the digits at fixed positions straight into a LocalDateTime; `parseEpochSecond` returns a UTC
+  epoch second using plain calendar arithmetic. Neither builds a TemporalAccessor / field map, and
+  parseEpochSecond allocates nothing: each field is read from its precomputed offset into a local.
+- Output is identical to DateTimeFormatter.ofPattern(pattern) for the supported letters. Other letters
+  (text months, time zones, ...) throw IllegalArgumentException: use DateTimeFormatter for those.
+ */
+public final class FastDateTimeFormat {
+
+    private static final ConcurrentMap<String, FastDateTimeFormat> REGISTRY = new ConcurrentHashMap<>();
+
+    private static final int LITERAL = 0, YEAR = 1, MONTH = 2, DAY = 3, HOUR = 4, MINUTE = 5, SECOND = 6, MILLI = 7;
+    private static final int[] FIELD_WIDTHS = {1, 4, 2, 2, 2, 2, 2, 3};   // fixed width per field type
+
+    private final String pattern;
+    private final int[] fieldTypes;     // one entry per output position group
+    private final int[] fieldWidths;
+    private final char[] literals;      // literal char for LITERAL entries
+    private final int[] fieldOffsets;   // text position of each field type, -1 if the pattern lacks it
+    private final int length;           // total formatted length
+
+    private FastDateTimeFormat(String pattern) {
+        this.pattern = pattern;
+        List<int[]> fields = new ArrayList<>();   // {type, width, literalChar}
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                int end = pattern.indexOf('\'', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated quote in pattern: " + pattern);
+                }
+                if (end == i + 1) {
+                    fields.add(new int[]{LITERAL, 1, '\''}); // '' is a literal quote
+                }
+                for (int j = i + 1; j < end; j++) {
+                    fields.add(new int[]{LITERAL, 1, pattern.charAt(j)});
+                }
+                i = end + 1;
+                continue;
+            }
+            if (!Character.isLetter(c)) {
+                fields.add(new int[]{LITERAL, 1, c});
+                i++;
+                continue;
+            }
+            int run = 1;
+            while (i + run < pattern.length() && pattern.charAt(i + run) == c) {
+                run++;
+            }
+            fields.add(new int[]{fieldType(c, run, pattern), run, 0});
+            i += run;
+        }
+
+        fieldTypes = new int[fields.size()];
+        fieldWidths = new int[fields.size()];
+        literals = new char[fields.size()];
+        fieldOffsets = new int[]{-1, -1, -1, -1, -1, -1, -1, -1};
+        int total = 0;
+        for (int f = 0; f < fields.size(); f++) {
+            fieldTypes[f] = fields.get(f)[0];
+            fieldWidths[f] = fields.get(f)[1];
+            literals[f] = (char) fields.get(f)[2];
+            if (fieldTypes[f] != LITERAL) {
+                fieldOffsets[fieldTypes[f]] = total;
+            }
+            total += fieldWidths[f];
+        }
+        length = total;
+    }
+
+    public static FastDateTimeFormat of(String pattern) {
+        FastDateTimeFormat format = REGISTRY.get(pattern);
+        return format != null ? format : REGISTRY.computeIfAbsent(pattern, FastDateTimeFormat::new);
+    }
+
+    public String pattern() {
+        return pattern;
+    }
+
+    // Number of chars every formatted value has
+    public int length() {
+        return length;
+    }
+
+    // --- Formatting ---
+
+    public String format(LocalDateTime dateTime) {
+        return formatTo(dateTime, new StringBuilder(length)).toString();
+    }
+
+    public StringBuilder formatTo(LocalDateTime dateTime, StringBuilder sb) {
+        int start = sb.length();
+        sb.setLength(start + length);
+        write(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(),
+                dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano() / 1_000_000, null, sb, start);
+        return sb;
+    }
+
+    // Returns the offset just after the written chars
+    public int formatTo(LocalDateTime dateTime, char[] buffer, int offset) {
+        write(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(),
+                dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano() / 1_000_000, buffer, null, offset);
+        return offset + length;
+    }
+
+    // Formats a UTC epoch second (e.g. from System.currentTimeMillis() / 1000) without a LocalDateTime
+    public StringBuilder formatEpochSecondTo(long epochSecond, StringBuilder sb) {
+        long epochDay = Math.floorDiv(epochSecond, 86_400L);
+        int secondOfDay = (int) Math.floorMod(epochSecond, 86_400L);
+
+        // Days -> civil date (H. Hinnant's days_to_civil)
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097L);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+        int start = sb.length();
+        sb.setLength(start + length);
+        write(year, month, day, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, 0, null, sb, start);
+        return sb;
+    }
+
+    private void write(int year, int month, int day, int hour, int minute, int second, int milli,
+                       char[] buffer, StringBuilder sb, int position) {
+        for (int f = 0; f < fieldTypes.length; f++) {
+            int width = fieldWidths[f];
+            int value;
+            switch (fieldTypes[f]) {
+                case YEAR:
+                    if (year < 1 || year > 9999) {
+                        throw new DateTimeException("Year " + year + " does not fit pattern " + pattern);
+                    }
+                    value = year;
+                    break;
+                case MONTH: value = month; break;
+                case DAY: value = day; break;
+                case HOUR: value = hour; break;
+                case MINUTE: value = minute; break;
+                case SECOND: value = second; break;
+                case MILLI: value = milli; break;
+                default:
+                    put(buffer, sb, position++, literals[f]);
+                    continue;
+            }
+            for (int d = width - 1; d >= 0; d--) {
+                put(buffer, sb, position + d, (char) ('0' + value % 10));
+                value /= 10;
+            }
+            position += width;
+        }
+    }
+
+    private static void put(char[] buffer, StringBuilder sb, int position, char c) {
+        if (buffer != null) {
+            buffer[position] = c;
+        } else {
+            sb.setCharAt(position, c);
+        }
+    }
+
+    // --- Parsing ---
+
+    public LocalDateTime parse(CharSequence text) {
+        checkText(text);
+        try {
+            return LocalDateTime.of(field(text, YEAR, 1), field(text, MONTH, 1), field(text, DAY, 1),
+                    field(text, HOUR, 0), field(text, MINUTE, 0), field(text, SECOND, 0),
+                    field(text, MILLI, 0) * 1_000_000);
+        } catch (DateTimeException e) {
+            throw new DateTimeParseException(e.getMessage(), text, 0, e);
+        }
+    }
+
+    // Parses a UTC date-time straight to epoch seconds (milliseconds are dropped)
+    public long parseEpochSecond(CharSequence text) {
+        checkText(text);
+        int year = field(text, YEAR, 1), month = field(text, MONTH, 1), day = field(text, DAY, 1);
+        int hour = field(text, HOUR, 0), minute = field(text, MINUTE, 0), second = field(text, SECOND, 0);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            throw new DateTimeParseException("Invalid date-time: " + text, text, 0);
+        }
+        // Civil date -> days (H. Hinnant's days_from_civil)
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400L);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        long epochDay = era * 146_097 + dayOfEra - 719_468;
+        return epochDay * 86_400 + hour * 3600L + minute * 60L + second;
+    }
+
+    // Checks length, literals and that every field position holds a digit
+    private void checkText(CharSequence text) {
+        if (text.length() != length) {
+            throw new DateTimeParseException("Expected " + length + " chars for pattern " + pattern, text, 0);
+        }
+        int position = 0;
+        for (int f = 0; f < fieldTypes.length; f++) {
+            int width = fieldWidths[f];
+            if (fieldTypes[f] == LITERAL) {
+                if (text.charAt(position) != literals[f]) {
+                    throw new DateTimeParseException("Expected '" + literals[f] + "'", text, position);
+                }
+            } else {
+                for (int d = 0; d < width; d++) {
+                    char c = text.charAt(position + d);
+                    if (c < '0' || c > '9') {
+                        throw new DateTimeParseException("Expected a digit", text, position + d);
+                    }
+                }
+            }
+            position += width;
+        }
+    }
+
+    // Value of one field of checked text; missing fields default to 1 for year/month/day, 0 otherwise
+    private int field(CharSequence text, int type, int missing) {
+        int offset = fieldOffsets[type];
+        if (offset < 0) {
+            return missing;
+        }
+        int value = 0;
+        for (int end = offset + FIELD_WIDTHS[type], i = offset; i < end; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4: case 6: case 9: case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static int fieldType(char letter, int width, String pattern) {
+        int type;
+        int expectedWidth;
+        switch (letter) {
+            case 'y': case 'u': type = YEAR; expectedWidth = 4; break;
+            case 'M': type = MONTH; expectedWidth = 2; break;
+            case 'd': type = DAY; expectedWidth = 2; break;
+            case 'H': type = HOUR; expectedWidth = 2; break;
+            case 'm': type = MINUTE; expectedWidth = 2; break;
+            case 's': type = SECOND; expectedWidth = 2; break;
+            case 'S': type = MILLI; expectedWidth = 3; break;
+            default:
+                throw new IllegalArgumentException("Unsupported pattern letter '" + letter + "' in " + pattern);
+        }
+        if (width != expectedWidth) {
+            throw new IllegalArgumentException("Pattern letter '" + letter + "' must appear " + expectedWidth
+                    + " times (fixed width) in " + pattern);
+        }
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "FastDateTimeFormat[" + pattern + "]";
+    }
+}
@@ -74,6 +74,10 @@ public class FunctionChainingExamples {
         List<Person> sorted = people.stream().sorted(comparator).collect(Collectors.toList());
         sorted.forEach(System.out::println);
 
+        // Same order, but each key is extracted once per person instead of on every comparison
+        List<Person> sortedByKeys = KeyExtractingSort.sortByStringThenInt(people, p -> p.name, p -> p.age);
+        System.out.println("Same order with extracted keys? " + sortedByKeys.equals(sorted));
+
         // ===========================
         // 5. BinaryOperator: maxBy & minBy
         // ===========================
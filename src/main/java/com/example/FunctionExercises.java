@@ -83,5 +83,48 @@ public class FunctionExercises {
                                      .map(toDTO)
                                      .collect(Collectors.toList());
         dtos.forEach(System.out::println); // Output: DTO(Alice), DTO(Bob), DTO(Charlie)
+
+        // --- Exercise 6: Shared vs specialized pipelines ---
+        System.out.println("\n=== Exercise 6: Shared vs specialized pipelines ===");
+        CallSiteProfiler.enable();
+        // Both pipelines on the shared stage classes: MapNode sees both functions
+        SpecializingPipeline<String, String> greetShared = SpecializingPipeline.<String>builder()
+                .map(combinedFunction).build();
+        SpecializingPipeline<String, Integer> lengthShared = SpecializingPipeline.<String>builder()
+                .map(String::length).build();
+        // Specialized: each pipeline gets its own MapNode copy
+        SpecializingPipeline<String, String> greetSpecialized = SpecializingPipeline.<String>builder()
+                .map(combinedFunction).specialize("greet");
+        System.out.println(greetShared.toList(names) + " " + lengthShared.toList(names));
+        System.out.println(greetSpecialized.toList(names)); // same result, own call sites
+        CallSiteProfiler.printReport();
+        CallSiteProfiler.disable();
+        CallSiteProfiler.reset();
+
+        // --- Exercise 7: Blocking Functions on many threads, results in input order ---
+        System.out.println("\n=== Exercise 7: Blocking Function stage ===");
+        Function<String, String> slowLookup = name -> {
+            sleep(20); // stand-in for a file lookup or a local service call
+            return name + "@example.com";
+        };
+        List<String> manyNames = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            manyNames.add(names.get(i % names.size()) + i);
+        }
+        try (BlockingStageExecutor io = BlockingStageExecutor.create(2000)) {
+            long start = System.nanoTime();
+            List<String> emails = io.map(manyNames, slowLookup);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.println(emails.size() + " lookups of 20 ms in " + millis + " ms on " + io);
+            System.out.println("First results, in input order: " + emails.subList(0, 3));
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
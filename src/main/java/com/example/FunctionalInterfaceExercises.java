@@ -27,6 +27,7 @@ public class FunctionalInterfaceExercises {
         Supplier<Double> randomSupplier = () -> Math.random();
         List<Double> randomNumbers = java.util.stream.Stream.generate(randomSupplier).limit(5).collect(Collectors.toList());
         System.out.println(randomNumbers);
+        // For large or parallel streams use a sized, splittable source instead: RandomStreams.doubles(seed, 5)
 
         // Example: List<String> → filter with Predicate, transform with Function, print with Consumer.
         System.out.println("\n=== Exercise: List<String> → filter with Predicate, transform with Function, print with Consumer ===");
@@ -58,9 +59,7 @@ public class FunctionalInterfaceExercises {
 
     // Generic copy method using Supplier
     public static <T> List<T> copyList(List<T> source, Supplier<List<T>> factory) {
-        List<T> copy = factory.get(); // creates the list using supplied factory
-        copy.addAll(source);
-        return copy;
+        return ListCopier.copyFromSupplier(source, factory);
     }
 }
 
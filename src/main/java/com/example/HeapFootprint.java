@@ -0,0 +1,220 @@
+package com.example;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+HeapFootprint – estimates how many heap bytes a record layout costs, without an agent or extra library.
+
+| Measure          | Meaning                                                                      |
+| ---------------- | ---------------------------------------------------------------------------- |
+| shallow size     | the object itself: header + fields, rounded up to 8 bytes                    |
+| retained size    | the object plus everything reachable from it (each object counted once)      |
+| allocated bytes  | what building n records really allocated (HotSpot thread allocation counter) |
+
+- Sizes are computed from the field list with the running JVM's settings: 12 or 16 byte headers and
+  4 or 8 byte references (compressed oops on/off), 8 byte alignment.
+- The graph walk reads fields with reflection. JDK classes cannot be opened on Java 9+, so String,
+  Optional, OptionalInt/Long/Double and boxed numbers are sized from their public API, and other JDK
+  objects count with their shallow size only.
+- `allocatedBytes` cross-checks the estimate: allocated bytes per record should be close to the
+  retained size when no strings are shared between records.
+
+Example:
+    HeapFootprint.report("Optional fields", sample, i -> newRecord(i));
+ */
+public final class HeapFootprint {
+
+    static final boolean COMPRESSED_OOPS = vmOption("UseCompressedOops", true);
+    static final boolean COMPRESSED_CLASS_POINTERS = vmOption("UseCompressedClassPointers", COMPRESSED_OOPS);
+    static final int REFERENCE_SIZE = COMPRESSED_OOPS ? 4 : 8;
+    static final int OBJECT_HEADER = COMPRESSED_CLASS_POINTERS ? 12 : 16;
+    static final int ARRAY_HEADER = COMPRESSED_CLASS_POINTERS ? 16 : 24;
+    private static final boolean COMPACT_STRINGS = !System.getProperty("java.specification.version").startsWith("1.");
+
+    private static final Map<Class<?>, Long> SHALLOW_SIZES = new IdentityHashMap<>();
+
+    private HeapFootprint() {
+    }
+
+    // Header + instance fields of the class and its superclasses, aligned to 8
+    public static synchronized long shallowSize(Class<?> type) {
+        if (type.isArray()) {
+            throw new IllegalArgumentException("Arrays have no fixed size: " + type);
+        }
+        Long cached = SHALLOW_SIZES.get(type);
+        if (cached != null) {
+            return cached;
+        }
+        long size = OBJECT_HEADER;
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    size += fieldSize(field.getType());
+                }
+            }
+        }
+        size = align(size);
+        SHALLOW_SIZES.put(type, size);
+        return size;
+    }
+
+    public static long shallowSize(Object object) {
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            return align(ARRAY_HEADER + (long) Array.getLength(object) * fieldSize(type.getComponentType()));
+        }
+        return shallowSize(type);
+    }
+
+    // The object plus everything reachable from it, each object counted once
+    public static long retainedSize(Object root) {
+        return retainedSize(Collections.singletonList(root));
+    }
+
+    // All records plus everything reachable from them; objects shared between records are counted once
+    public static long retainedSize(Collection<?> records) {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        for (Object record : records) {
+            pushIfNotNull(record, pending);
+        }
+        long total = 0;
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            if (!seen.add(object)) {
+                continue;
+            }
+            total += shallowSize(object);
+            pushChildren(object, pending);
+        }
+        return total;
+    }
+
+    // Bytes the current thread allocated while creating count records (HotSpot only, -1 elsewhere)
+    public static long allocatedBytes(IntFunction<?> recordFactory, int count) {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) threads;
+        long thread = Thread.currentThread().getId();
+        Object[] keep = new Object[count];   // allocated before measuring, keeps the records reachable
+        long before = hotspot.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < count; i++) {
+            keep[i] = recordFactory.apply(i);
+        }
+        long after = hotspot.getThreadAllocatedBytes(thread);
+        return keep.length == 0 ? 0 : after - before;
+    }
+
+    // Prints shallow / retained / allocated bytes per record and the total for 100M records
+    public static void report(String label, List<?> sample, IntFunction<?> recordFactory) {
+        long shallow = 0;
+        for (Object record : sample) {
+            shallow += shallowSize(record);
+        }
+        long retained = retainedSize(sample);
+        double shallowPerRecord = (double) shallow / sample.size();
+        double retainedPerRecord = (double) retained / sample.size();
+        long allocated = allocatedBytes(recordFactory, sample.size());
+        System.out.printf("%-22s shallow %5.1f B, retained %6.1f B, allocated %6.1f B per record"
+                        + " -> %,.0f MB per 100M records%n",
+                label, shallowPerRecord, retainedPerRecord, (double) allocated / sample.size(),
+                retainedPerRecord * 100_000_000 / (1 << 20));
+    }
+
+    private static void pushChildren(Object object, Deque<Object> pending) {
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            if (!type.getComponentType().isPrimitive()) {
+                for (int i = 0, n = Array.getLength(object); i < n; i++) {
+                    pushIfNotNull(Array.get(object, i), pending);
+                }
+            }
+            return;
+        }
+        if (object instanceof String) {
+            pending.push(stringValue((String) object));
+            return;
+        }
+        if (object instanceof Optional) {
+            pushIfNotNull(((Optional<?>) object).orElse(null), pending);
+            return;
+        }
+        if (isJdkClass(type)) {
+            return; // OptionalInt/Long/Double, boxed numbers, ...: no references we can follow
+        }
+        for (Class<?> c = type; c != null && !isJdkClass(c); c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    pushIfNotNull(field.get(object), pending);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot read " + field, e);
+                }
+            }
+        }
+    }
+
+    // Stand-in for String's private value array: byte[] on Java 9+ (1 byte per char if Latin-1), char[] on Java 8
+    private static Object stringValue(String s) {
+        if (!COMPACT_STRINGS) {
+            return new char[s.length()];
+        }
+        boolean latin1 = true;
+        for (int i = 0; i < s.length() && latin1; i++) {
+            latin1 = s.charAt(i) < 256;
+        }
+        return new byte[latin1 ? s.length() : 2 * s.length()];
+    }
+
+    private static void pushIfNotNull(Object object, Deque<Object> pending) {
+        if (object != null) {
+            pending.push(object);
+        }
+    }
+
+    private static boolean isJdkClass(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+                || name.startsWith("sun.");
+    }
+
+    private static int fieldSize(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return REFERENCE_SIZE;
+        }
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1; // byte, boolean
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static boolean vmOption(String name, boolean defaultValue) {
+        try {
+            com.sun.management.HotSpotDiagnosticMXBean hotspot =
+                    ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class);
+            return hotspot == null ? defaultValue : Boolean.parseBoolean(hotspot.getVMOption(name).getValue());
+        } catch (RuntimeException | LinkageError e) {
+            return defaultValue; // not a HotSpot VM, or the option does not exist
+        }
+    }
+}
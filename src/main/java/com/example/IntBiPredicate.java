@@ -0,0 +1,30 @@
+package com.example;
+
+import java.util.Objects;
+
+/**
+IntBiPredicate – the primitive form of BiPredicate<Integer, Integer>.
+
+- Abstract method: `boolean test(int a, int b)`
+- No boxing of the two arguments.
+- Can be chained using and, or, negate like BiPredicate.
+ */
+@FunctionalInterface
+public interface IntBiPredicate {
+
+    boolean test(int a, int b);
+
+    default IntBiPredicate and(IntBiPredicate other) {
+        Objects.requireNonNull(other);
+        return (a, b) -> test(a, b) && other.test(a, b);
+    }
+
+    default IntBiPredicate or(IntBiPredicate other) {
+        Objects.requireNonNull(other);
+        return (a, b) -> test(a, b) || other.test(a, b);
+    }
+
+    default IntBiPredicate negate() {
+        return (a, b) -> !test(a, b);
+    }
+}
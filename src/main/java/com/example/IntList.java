@@ -0,0 +1,162 @@
+package com.example;
+
+import java.util.*;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+IntList – a growable list of primitive ints, the primitive lane for the Integer exercises.
+
+- Backed by an `int[]`, so elements are never boxed to Integer.
+- Bulk operations take the primitive functional interfaces:
+    | Boxed                     | Primitive           | Composition                    |
+    | ------------------------- | ------------------- | ------------------------------ |
+    | `UnaryOperator<Integer>`  | `IntUnaryOperator`  | `andThen()`, `compose()`       |
+    | `BinaryOperator<Integer>` | `IntBinaryOperator` |                                |
+    | `Predicate<Integer>`      | `IntPredicate`      | `and()`, `or()`, `negate()`    |
+- A composed operator such as `increment.andThen(multiplyByTwo)` is one IntUnaryOperator,
+  so `map()` runs the whole chain in a single loop over the array.
+- Each bulk call allocates only its result array; nothing is allocated per element.
+ */
+public class IntList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntList(int initialCapacity) {
+        elements = new int[Math.max(initialCapacity, 1)];
+    }
+
+    private IntList(int[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    public static IntList of(int... values) {
+        return new IntList(Arrays.copyOf(values, Math.max(values.length, 1)), values.length);
+    }
+
+    public static IntList from(Collection<Integer> values) {
+        IntList list = new IntList(values.size());
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(size + 1, size + (size >> 1)));
+        }
+        elements[size++] = value;
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public void set(int index, int value) {
+        checkIndex(index);
+        elements[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    // --- Bulk operations ---
+
+    // New list with the operator applied to every element
+    public IntList map(IntUnaryOperator operator) {
+        int[] result = new int[Math.max(size, 1)];
+        for (int i = 0; i < size; i++) {
+            result[i] = operator.applyAsInt(elements[i]);
+        }
+        return new IntList(result, size);
+    }
+
+    // Same as map() but overwrites this list, so nothing is allocated at all
+    public IntList replaceAll(IntUnaryOperator operator) {
+        for (int i = 0; i < size; i++) {
+            elements[i] = operator.applyAsInt(elements[i]);
+        }
+        return this;
+    }
+
+    public IntList filter(IntPredicate predicate) {
+        int[] result = new int[Math.max(size, 1)];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int value = elements[i];
+            if (predicate.test(value)) {
+                result[count++] = value;
+            }
+        }
+        return new IntList(result, count);
+    }
+
+    public int reduce(int identity, IntBinaryOperator operator) {
+        int result = identity;
+        for (int i = 0; i < size; i++) {
+            result = operator.applyAsInt(result, elements[i]);
+        }
+        return result;
+    }
+
+    public OptionalInt reduce(IntBinaryOperator operator) {
+        if (size == 0) {
+            return OptionalInt.empty();
+        }
+        int result = elements[0];
+        for (int i = 1; i < size; i++) {
+            result = operator.applyAsInt(result, elements[i]);
+        }
+        return OptionalInt.of(result);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements[i]);
+        }
+        return sb.append("]").toString();
+    }
+}
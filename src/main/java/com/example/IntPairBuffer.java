@@ -0,0 +1,123 @@
+package com.example;
+
+import java.util.Arrays;
+
+/**
+IntPairBuffer – packed (int, int) pairs in one interleaved int[]: a0, b0, a1, b1, ...
+
+- Replaces `List<int[]>`, where every pair is a separate 2-element array
+  (16 byte header + 8 bytes data + a 4-8 byte reference in the list).
+  Here a pair costs exactly 8 bytes and the two values sit next to each other in memory.
+- Filtering uses IntBiPredicate (no boxing) and writes the indexes of matching pairs into a
+  SelectionVector, which the caller can reuse and pass to the next stage.
+- One int[] holds up to ~1 billion pairs; larger data sets are split into several buffers.
+
+Example:
+    SelectionVector selected = pairs.filter((a, b) -> a + b > 10, new SelectionVector());
+    pairs.filter(selected, (a, b) -> a > 0, selected); // refine in place
+ */
+public class IntPairBuffer {
+
+    private static final int MAX_PAIRS = (Integer.MAX_VALUE - 8) / 2;
+
+    private int[] data;
+    private int size;
+
+    public IntPairBuffer() {
+        this(16);
+    }
+
+    public IntPairBuffer(int initialPairs) {
+        data = new int[Math.max(initialPairs, 1) * 2];
+    }
+
+    public void add(int first, int second) {
+        if (size * 2 == data.length) {
+            grow();
+        }
+        data[size * 2] = first;
+        data[size * 2 + 1] = second;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int first(int index) {
+        checkIndex(index);
+        return data[index * 2];
+    }
+
+    public int second(int index) {
+        checkIndex(index);
+        return data[index * 2 + 1];
+    }
+
+    // Indexes of all pairs matching the predicate, written into `out` (previous content is discarded)
+    public SelectionVector filter(IntBiPredicate predicate, SelectionVector out) {
+        out.reset(size);
+        for (int i = 0, pos = 0; i < size; i++, pos += 2) {
+            if (predicate.test(data[pos], data[pos + 1])) {
+                out.addUnchecked(i);
+            }
+        }
+        return out;
+    }
+
+    // Keeps only the selected pairs that also match the predicate; `out` may be `selection` itself
+    public SelectionVector filter(SelectionVector selection, IntBiPredicate predicate, SelectionVector out) {
+        int count = selection.size();
+        int[] in = selection.indexes();
+        if (out != selection) {
+            out.reset(count);
+        }
+        int kept = 0;
+        int[] target = out.indexes();
+        for (int i = 0; i < count; i++) {
+            int index = in[i];
+            if (predicate.test(data[index * 2], data[index * 2 + 1])) {
+                target[kept++] = index;
+            }
+        }
+        out.setSize(kept);
+        return out;
+    }
+
+    // Number of matching pairs, without materializing a selection
+    public int count(IntBiPredicate predicate) {
+        int count = 0;
+        for (int pos = 0; pos < size * 2; pos += 2) {
+            if (predicate.test(data[pos], data[pos + 1])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void grow() {
+        if (size == MAX_PAIRS) {
+            throw new IllegalStateException("IntPairBuffer is full (" + MAX_PAIRS + " pairs)");
+        }
+        int newPairs = (int) Math.min(MAX_PAIRS, Math.max(size + 1L, size + (size >> 1)));
+        data = Arrays.copyOf(data, newPairs * 2);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('[').append(data[i * 2]).append(", ").append(data[i * 2 + 1]).append(']');
+        }
+        return sb.append("]").toString();
+    }
+}
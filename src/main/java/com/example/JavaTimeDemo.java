@@ -2,6 +2,9 @@ package com.example;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /* 
 What this file demonstrates:
@@ -10,7 +13,9 @@ What this file demonstrates:
     LocalDateTime – combined date and time.
     Duration – measures time-based differences (hours, minutes, seconds).
     Period – measures date-based differences (years, months, days).
+    BulkPeriods – the same Period.between for a whole int[] of epoch days, without objects per row.
     Formatting with DateTimeFormatter.
+    Time windows – bucketing LocalDateTime events per minute with TimeWindows.
 
 Key points:
     LocalDate, LocalTime, LocalDateTime are immutable and thread-safe.
@@ -68,9 +73,56 @@ public class JavaTimeDemo {
         Period untilAppointment = Period.between(today, appointment.toLocalDate());
         System.out.println("Time until appointment: " + untilAppointment.getMonths() + " months, " + untilAppointment.getDays() + " days");
 
+        // Many ages at once: birthdays as epoch days in, int[] years / months / days out
+        int[] birthdays = {
+                (int) birthday.toEpochDay(),
+                (int) LocalDate.of(2000, Month.FEBRUARY, 29).toEpochDay(),  // leap-day birthday
+                (int) LocalDate.of(2010, Month.JANUARY, 31).toEpochDay()};
+        int[] years = new int[birthdays.length];
+        int[] months = new int[birthdays.length];
+        int[] days = new int[birthdays.length];
+        BulkPeriods.between(birthdays, today, years, months, days);
+        for (int i = 0; i < birthdays.length; i++) {
+            System.out.println("Bulk age of " + LocalDate.ofEpochDay(birthdays[i]) + ": " + years[i] + " years, "
+                    + months[i] + " months, " + days[i] + " days (same as Period.between: "
+                    + Period.between(LocalDate.ofEpochDay(birthdays[i]), today).equals(Period.of(years[i], months[i], days[i])) + ")");
+        }
+
         // --- Formatting ---
         System.out.println("\n=== Formatting ===");
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
         System.out.println("Formatted currentDateTime: " + currentDateTime.format(formatter));
+
+        // Same pattern, compiled once and written straight into a reusable StringBuilder
+        FastDateTimeFormat fastFormat = FastDateTimeFormat.of("dd/MM/yyyy HH:mm");
+        StringBuilder line = new StringBuilder("Fast formatted currentDateTime: ");
+        System.out.println(fastFormat.formatTo(currentDateTime, line));
+        System.out.println("Parsed back: " + fastFormat.parse("01/12/2025 10:00")); // 2025-12-01T10:00
+        System.out.println("Epoch seconds (UTC): " + fastFormat.parseEpochSecond("01/12/2025 10:00"));
+
+        // --- Time windows (per-minute rollups) ---
+        System.out.println("\n=== Time windows ===");
+        List<LocalDateTime> events = Arrays.asList(
+                appointment.plusSeconds(5), appointment.plusSeconds(42), appointment.plusSeconds(61),
+                appointment.plusSeconds(30),  // out of order, still inside the first minute
+                appointment.plusSeconds(150), appointment.plusSeconds(170));
+
+        TimeWindows perMinute = TimeWindows.tumbling(Duration.ofMinutes(1));
+        System.out.println("Events per minute: "
+                + events.stream().collect(perMinute.collector(event -> event, Collectors.counting())));
+        // {2025-12-01T10:00=3, 2025-12-01T10:01=1, 2025-12-01T10:02=2}
+
+        TimeWindows lastTwoMinutes = TimeWindows.sliding(Duration.ofMinutes(2), Duration.ofMinutes(1));
+        System.out.println("Events in 2-minute windows, every minute: "
+                + events.stream().collect(lastTwoMinutes.collector(event -> event, Collectors.counting())));
+
+        // Endless input: only open windows are kept, each one is emitted as soon as it closes
+        TimeWindows.Aggregator<LocalDateTime, ?, Long> rollup = perMinute.aggregator(event -> event,
+                Collectors.counting(), Duration.ofSeconds(30),
+                (windowStart, count) -> System.out.println("  closed " + windowStart + " -> " + count));
+        events.forEach(rollup);
+        rollup.accept(appointment.plusSeconds(10)); // more than 30s behind the newest event: late
+        rollup.flush();
+        System.out.println("Late events dropped: " + rollup.lateEvents());
     }
 }
@@ -0,0 +1,169 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+KeyExtractingSort – sorts by a (String, int) key with each key extracted only once per element.
+
+`Comparator.comparing(p -> p.name).thenComparingInt(p -> p.age)` calls both lambdas on both sides
+of every comparison: about 4 * n * log2(n) lambda calls. This sort instead:
+    1. extracts the keys once into columns: String[] strings, int[] ints,
+       and long[] prefixes (the first 4 chars of the string packed into 64 bits)
+    2. sorts an int[] permutation of row indexes with a parallel merge sort
+    3. compares prefixes as unsigned longs; only when two prefixes tie does it
+       compare the full strings, then the ints
+    4. builds the result list from the permutation
+
+- The order is exactly that of the comparator above, and the sort is stable like List.sort.
+- Below SEQUENTIAL_THRESHOLD elements a range is sorted on the current thread.
+ */
+public final class KeyExtractingSort {
+
+    static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private KeyExtractingSort() {
+    }
+
+    // Same order as Comparator.comparing(stringKey).thenComparingInt(intKey), returned as a new list
+    public static <T> List<T> sortByStringThenInt(List<? extends T> source,
+                                                  Function<? super T, String> stringKey,
+                                                  ToIntFunction<? super T> intKey) {
+        int size = source.size();
+        Object[] elements = source.toArray();
+        Keys keys = new Keys(size);
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) elements[i];
+            String s = stringKey.apply(element);
+            keys.strings[i] = s;
+            keys.prefixes[i] = prefix(s);
+            keys.ints[i] = intKey.applyAsInt(element);
+        }
+
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = i;
+        }
+        if (size > SEQUENTIAL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new MergeSortTask(keys, permutation, new int[size], 0, size));
+        } else {
+            mergeSort(keys, permutation, new int[size], 0, size);
+        }
+
+        List<T> result = new ArrayList<>(size);
+        for (int index : permutation) {
+            @SuppressWarnings("unchecked")
+            T element = (T) elements[index];
+            result.add(element);
+        }
+        return result;
+    }
+
+    // First 4 UTF-16 chars, big-endian; shorter strings are padded with 0
+    static long prefix(String s) {
+        long prefix = 0;
+        for (int i = 0; i < 4; i++) {
+            prefix = (prefix << 16) | (i < s.length() ? s.charAt(i) : 0);
+        }
+        return prefix;
+    }
+
+    // --- Extracted key columns, indexed by original position ---
+    private static class Keys {
+        final long[] prefixes;
+        final String[] strings;
+        final int[] ints;
+
+        Keys(int size) {
+            prefixes = new long[size];
+            strings = new String[size];
+            ints = new int[size];
+        }
+
+        int compare(int a, int b) {
+            int c = Long.compareUnsigned(prefixes[a], prefixes[b]);
+            if (c != 0) {
+                return c;
+            }
+            c = strings[a].compareTo(strings[b]); // tie on the prefix: full string
+            if (c != 0) {
+                return c;
+            }
+            return Integer.compare(ints[a], ints[b]);
+        }
+    }
+
+    private static class MergeSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Keys keys;
+        private final int[] a;
+        private final int[] aux;
+        private final int from;
+        private final int to;
+
+        MergeSortTask(Keys keys, int[] a, int[] aux, int from, int to) {
+            this.keys = keys;
+            this.a = a;
+            this.aux = aux;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                mergeSort(keys, a, aux, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MergeSortTask(keys, a, aux, from, mid), new MergeSortTask(keys, a, aux, mid, to));
+            merge(keys, a, aux, from, mid, to);
+        }
+    }
+
+    // Stable top-down merge sort of a[from, to)
+    private static void mergeSort(Keys keys, int[] a, int[] aux, int from, int to) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            insertionSort(keys, a, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(keys, a, aux, from, mid);
+        mergeSort(keys, a, aux, mid, to);
+        merge(keys, a, aux, from, mid, to);
+    }
+
+    private static void merge(Keys keys, int[] a, int[] aux, int from, int mid, int to) {
+        if (keys.compare(a[mid - 1], a[mid]) <= 0) {
+            return; // already in order
+        }
+        System.arraycopy(a, from, aux, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (left < mid && (right >= to || keys.compare(aux[left], aux[right]) <= 0)) {
+                a[i] = aux[left++];
+            } else {
+                a[i] = aux[right++];
+            }
+        }
+    }
+
+    private static void insertionSort(Keys keys, int[] a, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int current = a[i];
+            int j = i - 1;
+            while (j >= from && keys.compare(a[j], current) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = current;
+        }
+    }
+}
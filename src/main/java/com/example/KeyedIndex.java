@@ -0,0 +1,68 @@
+package com.example;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+KeyedIndex – a one-pass hash index over a collection, for lookups inside stream pipelines.
+
+- Replaces `source.stream().filter(t -> key(t).equals(k)).findFirst().get()` inside a loop,
+  which rescans the source for every element (O(n²)), with one HashMap build (O(n)) + O(1) lookups.
+- First occurrence wins when keys repeat, so results match the findFirst() version.
+- `groupingBy(classifier)` is a Collector over keys: each key is looked up and grouped
+  by a property of the indexed element.
+
+Example:
+    KeyedIndex<String, Person> byName = KeyedIndex.of(people, p -> p.name);
+    Map<String, List<String>> namesByCity = names.stream().collect(byName.groupingBy(p -> p.city));
+ */
+public class KeyedIndex<K, T> {
+
+    private final Map<K, T> index;
+
+    private KeyedIndex(Map<K, T> index) {
+        this.index = index;
+    }
+
+    public static <K, T> KeyedIndex<K, T> of(Collection<? extends T> source, Function<? super T, ? extends K> keyExtractor) {
+        Map<K, T> index = new HashMap<>(Math.max(16, (int) (source.size() / 0.75f) + 1));
+        for (T element : source) {
+            index.putIfAbsent(keyExtractor.apply(element), element); // keep the first match, like findFirst()
+        }
+        return new KeyedIndex<>(index);
+    }
+
+    public Optional<T> find(K key) {
+        return Optional.ofNullable(index.get(key));
+    }
+
+    // Same contract as find(key).get(): throws NoSuchElementException for a missing key
+    public T get(K key) {
+        T element = index.get(key);
+        if (element == null) {
+            throw new NoSuchElementException("No value present for key: " + key);
+        }
+        return element;
+    }
+
+    public boolean containsKey(K key) {
+        return index.containsKey(key);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    // Collector over keys: groups each key by a property of the element it maps to
+    public <G> Collector<K, ?, Map<G, List<K>>> groupingBy(Function<? super T, ? extends G> classifier) {
+        return Collectors.groupingBy(key -> classifier.apply(get(key)));
+    }
+
+    // Same as above with a downstream collector, e.g. groupingBy(p -> p.city, Collectors.counting())
+    public <G, A, D> Collector<K, ?, Map<G, D>> groupingBy(Function<? super T, ? extends G> classifier,
+                                                          Collector<? super K, A, D> downstream) {
+        return Collectors.groupingBy(key -> classifier.apply(get(key)), downstream);
+    }
+}
@@ -58,6 +58,30 @@ public class Main {
         // 7. BinaryOperator
         BinaryOperator<Integer> multiply = (x, y) -> x * y;
         System.out.println("Multiply 5 * 6 = " + multiply.apply(5, 6));
+
+        // 8. Profile pollution: how many lambda classes reach each map/filter call site
+        CallSiteProfiler.enable();
+        names.stream()
+             .filter(CallSiteProfiler.filter("startsWithA", startsWithA))
+             .map(CallSiteProfiler.map("toUpperCase", toUpperCase))
+             .forEach(name -> { });
+        names.stream()
+             .filter(CallSiteProfiler.filter("shortName", name -> name.length() <= 4))
+             .map(CallSiteProfiler.map("lowerCase", name -> name.toLowerCase()))
+             .map(CallSiteProfiler.map("exclaim", name -> name + "!"))
+             .forEach(name -> { });
+
+        // Hot pipeline: its own copy of the stage code, so its call sites stay monomorphic
+        SpecializingPipeline<String, String> hot = SpecializingPipeline.<String>builder()
+                .filter(startsWithA)
+                .map(toUpperCase)
+                .specialize("hotUpperA");
+        System.out.println("Specialized pipeline: " + hot.toList(names));
+
+        System.out.println("Call sites:");
+        CallSiteProfiler.printReport();
+        CallSiteProfiler.disable();
+        CallSiteProfiler.reset();
     }
 
     // Custom functional interface
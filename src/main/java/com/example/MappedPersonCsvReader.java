@@ -0,0 +1,221 @@
+package com.example;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+MappedPersonCsvReader – streams StreamApiExamples.Person records from a memory-mapped CSV file.
+
+File format: one `name,age,city` record per line (`\n` or `\r\n`), optional header line.
+
+- The file is mapped with FileChannel.map in regions of up to 1 GB; each region overlaps the next
+  by MAX_LINE_BYTES so a line starting in a region is always readable from that region alone.
+- The Spliterator owns the lines that *start* inside its byte range. trySplit() picks the middle
+  of the range and moves it forward to the next line start, so both halves stay line-aligned.
+- Ages are parsed straight from the mapped bytes, no substring. Cities go through a small
+  per-Spliterator cache, so each distinct city String is created only once per split.
+- The resulting Stream<Person> feeds the same pipelines as StreamApiExamples.
+
+Example:
+    try (Stream<Person> people = MappedPersonCsvReader.parallelStream(path, true)) {
+        long londoners = people.filter(p -> p.city.equals("London")).count();
+    }
+ */
+public class MappedPersonCsvReader {
+
+    static final long REGION_BYTES = 1L << 30;
+    static final int MAX_LINE_BYTES = 64 * 1024;
+    static final long MIN_SPLIT_BYTES = 64 * 1024;
+
+    private final MappedByteBuffer[] regions;
+    private final long fileSize;
+
+    private MappedPersonCsvReader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            fileSize = channel.size();
+            int regionCount = (int) ((fileSize + REGION_BYTES - 1) / REGION_BYTES);
+            regions = new MappedByteBuffer[regionCount];
+            for (int i = 0; i < regionCount; i++) {
+                long start = i * REGION_BYTES;
+                long length = Math.min(fileSize - start, REGION_BYTES + MAX_LINE_BYTES);
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            }
+        } // the mappings stay valid after the channel is closed
+    }
+
+    public static Stream<StreamApiExamples.Person> stream(Path file, boolean hasHeader) throws IOException {
+        return new MappedPersonCsvReader(file).personStream(hasHeader, false);
+    }
+
+    public static Stream<StreamApiExamples.Person> parallelStream(Path file, boolean hasHeader) throws IOException {
+        return new MappedPersonCsvReader(file).personStream(hasHeader, true);
+    }
+
+    private Stream<StreamApiExamples.Person> personStream(boolean hasHeader, boolean parallel) {
+        long start = hasHeader ? nextLineStart(0) : 0;
+        return StreamSupport.stream(new LineSpliterator(start, fileSize), parallel);
+    }
+
+    private byte byteAt(long position) {
+        int region = (int) (position / REGION_BYTES);
+        return regions[region].get((int) (position - region * REGION_BYTES));
+    }
+
+    // Position just after the next '\n' at or after position (or fileSize)
+    private long nextLineStart(long position) {
+        while (position < fileSize) {
+            if (byteAt(position++) == '\n') {
+                return position;
+            }
+        }
+        return fileSize;
+    }
+
+    // --- Spliterator over the lines starting in [from, to) ---
+    private class LineSpliterator implements Spliterator<StreamApiExamples.Person> {
+        private long from;
+        private final long to;
+        private final CityCache cities = new CityCache();
+
+        LineSpliterator(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super StreamApiExamples.Person> action) {
+            while (from < to) {
+                long lineStart = from;
+                from = nextLineStart(from);
+                StreamApiExamples.Person person = parseLine(lineStart, from);
+                if (person != null) {
+                    action.accept(person);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<StreamApiExamples.Person> trySplit() {
+            if (to - from < MIN_SPLIT_BYTES) {
+                return null;
+            }
+            long mid = nextLineStart(from + (to - from) / 2);
+            if (mid >= to) {
+                return null;
+            }
+            Spliterator<StreamApiExamples.Person> prefix = new LineSpliterator(from, mid);
+            from = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from; // bytes, a proportional estimate of the line count
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+
+        // Parses one line; returns null for a blank line
+        private StreamApiExamples.Person parseLine(long start, long end) {
+            if (end - start > MAX_LINE_BYTES) {
+                throw new IllegalArgumentException("Line at byte " + start + " is longer than " + MAX_LINE_BYTES + " bytes");
+            }
+            int region = (int) (start / REGION_BYTES);
+            MappedByteBuffer buffer = regions[region];
+            int lineStart = (int) (start - region * REGION_BYTES);
+            int lineEnd = (int) (end - region * REGION_BYTES);
+            while (lineEnd > lineStart && (buffer.get(lineEnd - 1) == '\n' || buffer.get(lineEnd - 1) == '\r')) {
+                lineEnd--;
+            }
+            if (lineEnd == lineStart) {
+                return null;
+            }
+
+            int firstComma = indexOf(buffer, lineStart, lineEnd, (byte) ',');
+            int secondComma = firstComma < 0 ? -1 : indexOf(buffer, firstComma + 1, lineEnd, (byte) ',');
+            if (secondComma < 0) {
+                throw new IllegalArgumentException("Expected name,age,city at byte " + start);
+            }
+
+            String name = decode(buffer, lineStart, firstComma);
+            int age = parseAge(buffer, firstComma + 1, secondComma, start);
+            String city = cities.get(buffer, secondComma + 1, lineEnd);
+            return new StreamApiExamples.Person(name, age, city);
+        }
+    }
+
+    private static int indexOf(MappedByteBuffer buffer, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int parseAge(MappedByteBuffer buffer, int from, int to, long lineStart) {
+        if (from == to) {
+            throw new IllegalArgumentException("Missing age at byte " + lineStart);
+        }
+        int age = 0;
+        for (int i = from; i < to; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid age at byte " + lineStart);
+            }
+            age = age * 10 + digit;
+        }
+        return age;
+    }
+
+    private static String decode(MappedByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Small direct-mapped cache from city bytes to String, so repeated cities share one instance
+    private static class CityCache {
+        private static final int SLOTS = 256;
+        private final byte[][] keys = new byte[SLOTS][];
+        private final String[] values = new String[SLOTS];
+
+        String get(MappedByteBuffer buffer, int from, int to) {
+            int hash = 1;
+            for (int i = from; i < to; i++) {
+                hash = 31 * hash + buffer.get(i);
+            }
+            int slot = (hash ^ (hash >>> 16)) & (SLOTS - 1);
+
+            byte[] key = keys[slot];
+            if (key != null && key.length == to - from) {
+                boolean same = true;
+                for (int i = 0; i < key.length && same; i++) {
+                    same = key[i] == buffer.get(from + i);
+                }
+                if (same) {
+                    return values[slot];
+                }
+            }
+            String city = decode(buffer, from, to);
+            keys[slot] = city.getBytes(StandardCharsets.UTF_8);
+            values[slot] = city;
+            return city;
+        }
+    }
+}
@@ -86,6 +86,18 @@ public class MethodReferenceExamples {
         // 8. Method reference to custom instance method
         MethodReferenceExamples example = new MethodReferenceExamples();
         names.forEach(example::printFormatted);
+
+
+        // 9. Every lambda and method reference above that went through Stream.map shares one JDK call site
+        CallSiteProfiler.enable();
+        List<Function<String, String>> mappers = Arrays.asList(
+                name -> name.toUpperCase(), String::toUpperCase, String::toLowerCase, String::trim, greet2);
+        for (Function<String, String> mapper : mappers) {
+            names.stream().map(CallSiteProfiler.map("names.map", mapper)).collect(Collectors.toList());
+        }
+        CallSiteProfiler.printReport(); // names.map: 5 lambda classes -> MEGAMORPHIC, not inlined
+        CallSiteProfiler.disable();
+        CallSiteProfiler.reset();
     }
 
     public void printFormatted(String value) {
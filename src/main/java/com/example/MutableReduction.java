@@ -0,0 +1,109 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+MutableReduction – reduce with a reusable, mutable accumulator instead of a new object per combine.
+
+`reduce(identity, combinePoints)` creates a new Point for every element. A mutable reduction instead has:
+    - newAccumulator : creates an empty accumulator          (e.g. () -> new long[2])
+    - accumulate     : adds one element in place             (acc[0] += p.x; acc[1] += p.y)
+    - combine        : merges the right accumulator into the left one, in place
+    - freeze         : turns the final accumulator into the result value (new Point(acc[0], acc[1]))
+
+- `reduce(list)` uses one accumulator for the whole list.
+- `parallelReduce(list)` splits the index range into about 4 leaves per worker, gives each leaf one
+  accumulator and combines them pairwise up the fork/join tree, so allocation is per leaf, not per element.
+- `toCollector()` gives the same reduction as a Collector for Stream.collect.
+ */
+public final class MutableReduction<T, A, R> {
+
+    private static final int MIN_LEAF_SIZE = 1024;
+
+    private final Supplier<A> newAccumulator;
+    private final BiConsumer<A, ? super T> accumulate;
+    private final BiConsumer<A, A> combine;
+    private final Function<A, R> freeze;
+
+    private MutableReduction(Supplier<A> newAccumulator, BiConsumer<A, ? super T> accumulate,
+                             BiConsumer<A, A> combine, Function<A, R> freeze) {
+        this.newAccumulator = newAccumulator;
+        this.accumulate = accumulate;
+        this.combine = combine;
+        this.freeze = freeze;
+    }
+
+    public static <T, A, R> MutableReduction<T, A, R> of(Supplier<A> newAccumulator,
+                                                         BiConsumer<A, ? super T> accumulate,
+                                                         BiConsumer<A, A> combine,
+                                                         Function<A, R> freeze) {
+        return new MutableReduction<>(Objects.requireNonNull(newAccumulator), Objects.requireNonNull(accumulate),
+                Objects.requireNonNull(combine), Objects.requireNonNull(freeze));
+    }
+
+    public R reduce(Iterable<? extends T> source) {
+        A accumulator = newAccumulator.get();
+        for (T element : source) {
+            accumulate.accept(accumulator, element);
+        }
+        return freeze.apply(accumulator);
+    }
+
+    public R parallelReduce(List<? extends T> source) {
+        return parallelReduce(source, ForkJoinPool.commonPool());
+    }
+
+    public R parallelReduce(List<? extends T> source, ForkJoinPool pool) {
+        List<? extends T> list = source instanceof RandomAccess ? source : new ArrayList<>(source);
+        int leafSize = Math.max(MIN_LEAF_SIZE, list.size() / (pool.getParallelism() * 4));
+        return freeze.apply(pool.invoke(new ReduceTask(list, 0, list.size(), leafSize)));
+    }
+
+    public Collector<T, A, R> toCollector() {
+        return Collector.of(newAccumulator, accumulate::accept, (left, right) -> {
+            combine.accept(left, right);
+            return left;
+        }, freeze);
+    }
+
+    // Reduces [from, to) into one accumulator; leaves loop, inner nodes combine right into left
+    private class ReduceTask extends RecursiveTask<A> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends T> source;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        ReduceTask(List<? extends T> source, int from, int to, int leafSize) {
+            this.source = source;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from <= leafSize) {
+                A accumulator = newAccumulator.get();
+                for (int i = from; i < to; i++) {
+                    accumulate.accept(accumulator, source.get(i));
+                }
+                return accumulator;
+            }
+            int mid = (from + to) >>> 1;
+            ReduceTask left = new ReduceTask(source, from, mid, leafSize);
+            ReduceTask right = new ReduceTask(source, mid, to, leafSize);
+            right.fork();
+            A result = left.compute();
+            combine.accept(result, right.join());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.example;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+OffHeapPersonStore – StreamApiExamples.Person records kept in direct ByteBuffers instead of on the heap.
+
+- Record area: fixed-width 16-byte records, in 1 MB direct-buffer chunks.
+    | offset | field    | type                                            |
+    | ------ | -------- | ----------------------------------------------- |
+    | 0      | age      | int                                             |
+    | 4      | cityCode | int (index into the city dictionary)            |
+    | 8      | nameRef  | long (string chunk in high 32 bits, offset low) |
+- String area: names stored as [short length][UTF-8 bytes], in 64 MB direct-buffer chunks.
+- Cities repeat, so they are dictionary-encoded; the small dictionary stays on the heap.
+- The heap only holds the chunk lists, so GC work does not grow with the record count.
+
+Streams:
+- `stream()` / `parallelStream()` are backed by a SIZED + SUBSIZED Spliterator that splits the index range in half.
+- Each Spliterator reuses one PersonView (a flyweight) for all of its records:
+  no object is allocated per record, but a view must not be kept after the consumer returns.
+  Use `view.toPerson()` to copy a record onto the heap.
+- Appends are not thread-safe; reads (including parallel streams) are, once loading is done.
+ */
+public class OffHeapPersonStore {
+
+    static final int RECORD_BYTES = 16;
+    static final int RECORDS_PER_CHUNK = 1 << 16;        // 1 MB of records per chunk
+    static final int STRING_CHUNK_BYTES = 64 << 20;      // 64 MB of names per chunk
+
+    private static final int AGE = 0;
+    private static final int CITY_CODE = 4;
+    private static final int NAME_REF = 8;
+
+    private final List<ByteBuffer> recordChunks = new ArrayList<>();
+    private final List<ByteBuffer> stringChunks = new ArrayList<>();
+    private int stringPosition = STRING_CHUNK_BYTES;    // forces a chunk on the first name
+
+    private final List<String> cities = new ArrayList<>();
+    private final Map<String, Integer> cityIndex = new HashMap<>();
+
+    private long size;
+
+    public static OffHeapPersonStore of(Collection<StreamApiExamples.Person> people) {
+        OffHeapPersonStore store = new OffHeapPersonStore();
+        for (StreamApiExamples.Person p : people) {
+            store.add(p.name, p.age, p.city);
+        }
+        return store;
+    }
+
+    public void add(String name, int age, String city) {
+        int slot = (int) (size % RECORDS_PER_CHUNK);
+        if (slot == 0) {
+            recordChunks.add(ByteBuffer.allocateDirect(RECORDS_PER_CHUNK * RECORD_BYTES));
+        }
+        ByteBuffer records = recordChunks.get(recordChunks.size() - 1);
+        int base = slot * RECORD_BYTES;
+        records.putInt(base + AGE, age);
+        records.putInt(base + CITY_CODE, encodeCity(city));
+        records.putLong(base + NAME_REF, writeString(name));
+        size++;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public List<String> cityDictionary() {
+        return Collections.unmodifiableList(cities);
+    }
+
+    // Allocates one view; for bulk access use stream(), which reuses a view per Spliterator
+    public PersonView get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        PersonView view = new PersonView();
+        view.moveTo(index);
+        return view;
+    }
+
+    public Stream<PersonView> stream() {
+        return StreamSupport.stream(new RecordSpliterator(0, size), false);
+    }
+
+    public Stream<PersonView> parallelStream() {
+        return StreamSupport.stream(new RecordSpliterator(0, size), true);
+    }
+
+    // Total direct memory reserved for records and names
+    public long offHeapBytes() {
+        return (long) recordChunks.size() * RECORDS_PER_CHUNK * RECORD_BYTES
+                + (long) stringChunks.size() * STRING_CHUNK_BYTES;
+    }
+
+    private int encodeCity(String city) {
+        Integer code = cityIndex.get(city);
+        if (code == null) {
+            code = cities.size();
+            cities.add(city);
+            cityIndex.put(city, code);
+        }
+        return code;
+    }
+
+    private long writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Name longer than " + Short.MAX_VALUE + " bytes");
+        }
+        if (stringPosition + 2 + bytes.length > STRING_CHUNK_BYTES) {
+            stringChunks.add(ByteBuffer.allocateDirect(STRING_CHUNK_BYTES));
+            stringPosition = 0;
+        }
+        int chunk = stringChunks.size() - 1;
+        ByteBuffer strings = stringChunks.get(chunk);
+        strings.putShort(stringPosition, (short) bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            strings.put(stringPosition + 2 + i, bytes[i]);
+        }
+        long ref = ((long) chunk << 32) | stringPosition;
+        stringPosition += 2 + bytes.length;
+        return ref;
+    }
+
+    // --- Flyweight view over one record ---
+    public class PersonView {
+        private ByteBuffer records;
+        private int base;
+        private long index;
+
+        void moveTo(long index) {
+            this.index = index;
+            this.records = recordChunks.get((int) (index / RECORDS_PER_CHUNK));
+            this.base = (int) (index % RECORDS_PER_CHUNK) * RECORD_BYTES;
+        }
+
+        public long index() {
+            return index;
+        }
+
+        public int age() {
+            return records.getInt(base + AGE);
+        }
+
+        public int cityCode() {
+            return records.getInt(base + CITY_CODE);
+        }
+
+        // No allocation: cities come from the dictionary
+        public String city() {
+            return cities.get(cityCode());
+        }
+
+        public int nameLength() {
+            long ref = records.getLong(base + NAME_REF);
+            return stringChunks.get((int) (ref >>> 32)).getShort((int) ref);
+        }
+
+        // Appends the name without creating a String (ASCII fast path)
+        public StringBuilder appendName(StringBuilder sb) {
+            long ref = records.getLong(base + NAME_REF);
+            ByteBuffer strings = stringChunks.get((int) (ref >>> 32));
+            int offset = (int) ref;
+            int length = strings.getShort(offset);
+            for (int i = 0; i < length; i++) {
+                byte b = strings.get(offset + 2 + i);
+                if (b < 0) {
+                    return sb.append(name());
+                }
+            }
+            for (int i = 0; i < length; i++) {
+                sb.append((char) strings.get(offset + 2 + i));
+            }
+            return sb;
+        }
+
+        // Allocates a new String
+        public String name() {
+            long ref = records.getLong(base + NAME_REF);
+            ByteBuffer strings = stringChunks.get((int) (ref >>> 32));
+            int offset = (int) ref;
+            byte[] bytes = new byte[strings.getShort(offset)];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = strings.get(offset + 2 + i);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        // Copies the record onto the heap, for the regular StreamApiExamples pipelines
+        public StreamApiExamples.Person toPerson() {
+            return new StreamApiExamples.Person(name(), age(), city());
+        }
+
+        @Override
+        public String toString() {
+            return name() + " (" + age() + ", " + city() + ")";
+        }
+    }
+
+    // --- Spliterator over a range of record indexes, reusing one view ---
+    private class RecordSpliterator implements Spliterator<PersonView> {
+        private long from;
+        private final long to;
+        private final PersonView view = new PersonView();
+
+        RecordSpliterator(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super PersonView> action) {
+            if (from >= to) {
+                return false;
+            }
+            view.moveTo(from++);
+            action.accept(view);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super PersonView> action) {
+            for (long i = from; i < to; i++) {
+                view.moveTo(i);
+                action.accept(view);
+            }
+            from = to;
+        }
+
+        @Override
+        public Spliterator<PersonView> trySplit() {
+            long mid = (from + to) >>> 1;
+            if (mid <= from) {
+                return null;
+            }
+            Spliterator<PersonView> prefix = new RecordSpliterator(from, mid);
+            from = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example;
 
 import java.util.*;
+import java.util.function.IntFunction;
 
 /* 
 | **Method**                      | **Description**                                                                                           | **Example**                                                    | **Notes / Behavior**                                                        |
@@ -18,6 +19,8 @@ Key points:
     - Optional<T> helps avoid null checks and NullPointerExceptions
     - Supports functional-style transformations with map and flatMap
     - Can be chained for complex pipelines without nested null checks 
+    - Prefer Optional as a return type, not as a field: each present Optional field is an extra object
+      per record (see CompactPerson and HeapFootprint in Exercise 8)
 */
 public class OptionalExercises {
 
@@ -62,10 +65,13 @@ public class OptionalExercises {
         System.out.println("\n=== Exercise 6: Transform Optional with flatMap ===");
         class Person {
             String name;
-            Optional<String> email;
+            String email; // null when absent: an Optional field would add one object per person
             Person(String name, String email) {
                 this.name = name;
-                this.email = Optional.ofNullable(email);
+                this.email = email;
+            }
+            Optional<String> email() {
+                return Optional.ofNullable(email); // Optional view, created only when asked for
             }
         }
 
@@ -73,8 +79,8 @@ public class OptionalExercises {
         Person p2 = new Person("Bob", null);
 
         // Extract email if present
-        Optional<String> email1 = p1.email.flatMap(email -> Optional.of(email.toLowerCase()));
-        Optional<String> email2 = p2.email.flatMap(email -> Optional.of(email.toLowerCase()));
+        Optional<String> email1 = p1.email().flatMap(email -> Optional.of(email.toLowerCase()));
+        Optional<String> email2 = p2.email().flatMap(email -> Optional.of(email.toLowerCase()));
 
         email1.ifPresent(e -> System.out.println("Email1: " + e)); // Output: alice@example.com
         System.out.println("Email2 is present? " + email2.isPresent()); // Output: false
@@ -87,5 +93,39 @@ public class OptionalExercises {
 
         Optional<String> resultFiltered2 = optionalFiltered.filter(name -> name.startsWith("B"));
         System.out.println("Filtered present? " + resultFiltered2.isPresent()); // Output: false
+
+        // --- Exercise 8: Optional fields vs a compact record with a presence bitmap ---
+        System.out.println("\n=== Exercise 8: Footprint of Optional fields ===");
+        String[] names = {"Alice", "Bob", "Charlie", "Diana"};
+        String[] emails = {"alice@example.com", null, "charlie@example.com", null};
+        CompactPerson.Builder builder = CompactPerson.builder(); // reused for every record
+        IntFunction<CompactPerson> compactFactory = i -> {
+            builder.clear().name(names[i % 4]).email(emails[i % 4]);
+            if (i % 3 != 0) {
+                builder.age(20 + i % 50);
+            }
+            if (i % 2 == 0) {
+                builder.loyaltyPoints(i * 10L);
+            }
+            return builder.build();
+        };
+        IntFunction<CompactPerson.WithOptionals> optionalFactory = i -> new CompactPerson.WithOptionals(
+                names[i % 4], Optional.ofNullable(emails[i % 4]), Optional.empty(),
+                i % 3 != 0 ? OptionalInt.of(20 + i % 50) : OptionalInt.empty(),
+                i % 2 == 0 ? OptionalLong.of(i * 10L) : OptionalLong.empty());
+
+        CompactPerson carol = compactFactory.apply(2);
+        System.out.println(carol); // Optional views are built for printing only
+        System.out.println("Age or -1 (no allocation): " + carol.ageOr(-1));
+
+        int sampleSize = 100_000;
+        List<Object> compactSample = new ArrayList<>(sampleSize);
+        List<Object> optionalSample = new ArrayList<>(sampleSize);
+        for (int i = 0; i < sampleSize; i++) {
+            compactSample.add(compactFactory.apply(i));
+            optionalSample.add(optionalFactory.apply(i));
+        }
+        HeapFootprint.report("Optional fields", optionalSample, optionalFactory);
+        HeapFootprint.report("CompactPerson", compactSample, compactFactory);
     }
 }
@@ -0,0 +1,208 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ParallelBulkUpdate – applies a BiConsumer / BiFunction to every entry of a map or list, in place, on all cores.
+
+`map.forEach(update)` and `list.forEach(p -> update.accept(p, 2))` run on one thread. These methods split the
+collection into disjoint pieces and run the pieces on the common ForkJoinPool:
+
+| Method                                     | Splits by          | Each entry                               |
+| ------------------------------------------ | ------------------ | ---------------------------------------- |
+| `updateValues(map, (k, v) -> ...)`         | bucket / subtree   | value object mutated by the BiConsumer   |
+| `replaceValues(map, (k, v) -> v2)`         | bucket / subtree   | entry.setValue(v2) on the existing entry |
+| `updateElements(list, arg, (e, a) -> ...)` | index ranges       | element mutated by the BiConsumer        |
+| `replaceElements(list, arg, (e, a) -> e2)` | index ranges       | list.set(i, e2)                          |
+
+- Every method returns the number of entries touched.
+- Pieces never overlap, so each entry is updated by exactly one worker; the fork/join join makes all
+  writes visible to the caller. Values shared by several keys are the caller's problem: they would be
+  mutated by several workers.
+- No entries, nodes or copies of the collection are created. Only what the function itself returns is
+  allocated (e.g. a boxed Integer for `v + bonus`).
+- The collection must not be structurally modified (put / remove / add) while an update runs. HashMap and
+  ArrayList detect that and throw ConcurrentModificationException.
+- Below PARALLEL_THRESHOLD entries, or when the common pool has a single worker, the collection's own
+  forEach / replaceAll runs on the calling thread: forking would cost more than it saves.
+- Only HashMap, ConcurrentHashMap and TreeMap themselves are split: their spliterators split in place and
+  their entries write through setValue. Every other map runs forEach / replaceAll on the calling thread:
+  LinkedHashMap, WeakHashMap and most others split by copying entries into arrays, and the entries of
+  IdentityHashMap and ConcurrentSkipListMap are immutable snapshots.
+- Lists without RandomAccess (LinkedList) are updated on the calling thread as well, for the same reason.
+
+Example:
+    long touched = ParallelBulkUpdate.replaceValues(scores, (name, score) -> score + bonus);
+ */
+public final class ParallelBulkUpdate {
+
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+    private static final int MIN_CHUNK = 1 << 12;
+
+    private ParallelBulkUpdate() {
+    }
+
+    private static boolean splitsInPlace(Map<?, ?> map) {
+        Class<?> type = map.getClass();
+        return type == HashMap.class || type == ConcurrentHashMap.class || type == TreeMap.class;
+    }
+
+    // Calls action(key, value) for every entry; action mutates the value object
+    public static <K, V> long updateValues(Map<K, V> map, BiConsumer<? super K, ? super V> action) {
+        return updateValues(map, action, ForkJoinPool.commonPool());
+    }
+
+    // Replaces every value with function(key, value), through the existing entries
+    public static <K, V> long replaceValues(Map<K, V> map, BiFunction<? super K, ? super V, ? extends V> function) {
+        return replaceValues(map, function, ForkJoinPool.commonPool());
+    }
+
+    // Calls action(element, argument) for every element; action mutates the element
+    public static <E, U> long updateElements(List<E> list, U argument, BiConsumer<? super E, ? super U> action) {
+        return updateElements(list, argument, action, ForkJoinPool.commonPool());
+    }
+
+    // Replaces every element with function(element, argument)
+    public static <E, U> long replaceElements(List<E> list, U argument,
+                                              BiFunction<? super E, ? super U, ? extends E> function) {
+        return replaceElements(list, argument, function, ForkJoinPool.commonPool());
+    }
+
+    // The same updates on a given pool (tests force the parallel path with a multi-worker pool)
+    static <K, V> long updateValues(Map<K, V> map, BiConsumer<? super K, ? super V> action, ForkJoinPool pool) {
+        Objects.requireNonNull(action);
+        int size = map.size();
+        if (!splitsInPlace(map) || !parallel(size, pool)) {
+            map.forEach(action);
+            return size;
+        }
+        return run(pool, map.entrySet().spliterator(), size,
+                entry -> action.accept(entry.getKey(), entry.getValue()));
+    }
+
+    static <K, V> long replaceValues(Map<K, V> map, BiFunction<? super K, ? super V, ? extends V> function,
+                                     ForkJoinPool pool) {
+        Objects.requireNonNull(function);
+        int size = map.size();
+        if (!splitsInPlace(map) || !parallel(size, pool)) {
+            map.replaceAll(function);   // HashMap / TreeMap rewrite node values in place
+            return size;
+        }
+        return run(pool, map.entrySet().spliterator(), size,
+                entry -> entry.setValue(function.apply(entry.getKey(), entry.getValue())));
+    }
+
+    static <E, U> long updateElements(List<E> list, U argument, BiConsumer<? super E, ? super U> action,
+                                      ForkJoinPool pool) {
+        Objects.requireNonNull(action);
+        int size = list.size();
+        if (!(list instanceof RandomAccess) || !parallel(size, pool)) {
+            list.forEach(element -> action.accept(element, argument));
+            return size;
+        }
+        return pool.invoke(new RangeTask(0, size, chunk(size, pool),
+                i -> action.accept(list.get(i), argument)));
+    }
+
+    static <E, U> long replaceElements(List<E> list, U argument,
+                                       BiFunction<? super E, ? super U, ? extends E> function, ForkJoinPool pool) {
+        Objects.requireNonNull(function);
+        int size = list.size();
+        if (!(list instanceof RandomAccess) || !parallel(size, pool)) {
+            long touched = 0;
+            for (ListIterator<E> it = list.listIterator(); it.hasNext(); touched++) {
+                it.set(function.apply(it.next(), argument));
+            }
+            return touched;
+        }
+        return pool.invoke(new RangeTask(0, size, chunk(size, pool),
+                i -> list.set(i, function.apply(list.get(i), argument))));
+    }
+
+    private static <T> long run(ForkJoinPool pool, Spliterator<T> source, int size, Consumer<? super T> action) {
+        return pool.invoke(new SpliteratorTask<>(source, chunk(size, pool), action));
+    }
+
+    private static boolean parallel(int size, ForkJoinPool pool) {
+        return size >= PARALLEL_THRESHOLD && pool.getParallelism() > 1;
+    }
+
+    // About four pieces per worker, so a slow piece can be balanced by stealing
+    private static int chunk(int size, ForkJoinPool pool) {
+        return Math.max(MIN_CHUNK, size / (pool.getParallelism() * 4));
+    }
+
+    // Splits the source (HashMap: by bucket ranges, TreeMap: by subtrees) until a piece is at most chunk entries
+    private static final class SpliteratorTask<T> extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final Spliterator<T> source;
+        private final int chunk;
+        private final Consumer<? super T> action;
+
+        SpliteratorTask(Spliterator<T> source, int chunk, Consumer<? super T> action) {
+            this.source = source;
+            this.chunk = chunk;
+            this.action = action;
+        }
+
+        @Override
+        protected Long compute() {
+            Spliterator<T> prefix;
+            if (source.estimateSize() > chunk && (prefix = source.trySplit()) != null) {
+                SpliteratorTask<T> left = new SpliteratorTask<>(prefix, chunk, action);
+                left.fork();
+                long right = new SpliteratorTask<>(source, chunk, action).compute();
+                return left.join() + right;
+            }
+            long[] touched = {0};
+            source.forEachRemaining(element -> {   // one bulk walk; HashMap checks for modification at the end
+                action.accept(element);
+                touched[0]++;
+            });
+            return touched[0];
+        }
+    }
+
+    private interface IndexAction {
+        void apply(int index);
+    }
+
+    // Runs action on the indexes [from, to), halving the range down to chunk indexes
+    private static final class RangeTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final IndexAction action;
+
+        RangeTask(int from, int to, int chunk, IndexAction action) {
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.action = action;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= chunk) {
+                for (int i = from; i < to; i++) {
+                    action.apply(i);
+                }
+                return (long) (to - from);
+            }
+            int mid = (from + to) >>> 1;
+            RangeTask left = new RangeTask(from, mid, chunk, action);
+            left.fork();
+            long right = new RangeTask(mid, to, chunk, action).compute();
+            return left.join() + right;
+        }
+    }
+}
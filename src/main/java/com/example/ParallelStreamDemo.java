@@ -27,5 +27,30 @@ public class ParallelStreamDemo {
                    return n * 2;
                })
                .forEach(result -> System.out.println("Result (parallel): " + result));
+
+        // --- Parallel Stream on a dedicated ForkJoinPool ---
+        // Keeps heavy pipelines off the common pool and reports how the work was split.
+        System.out.println("\n=== Parallel Stream on a dedicated pool ===");
+        try (ParallelStreamExecutor executor = ParallelStreamExecutor.dedicated(4)) {
+            ParallelStreamExecutor.RunResult<Integer> run = executor.run(numbers, stream -> stream
+                    .map(n -> {
+                        System.out.println("Processing (dedicated pool): " + n + " by " + Thread.currentThread().getName());
+                        return n * 2;
+                    })
+                    .reduce(0, Integer::sum));
+            System.out.println("Run: " + run);
+        }
+
+        // --- Parallel Stream into a batched sink ---
+        // Workers only format and enqueue; one writer thread prints the lines in batches,
+        // so nobody waits on the System.out lock per element.
+        System.out.println("\n=== Parallel Stream into AsyncBatchingSink ===");
+        try (AsyncBatchingSink<Integer> sink = AsyncBatchingSink.<Integer>builder()
+                .format(result -> "Result (async sink): " + result + " by " + Thread.currentThread().getName())
+                .toStdout()) {
+            numbers.parallelStream()
+                   .map(n -> n * 2)
+                   .forEach(sink);
+        }
     }
 }
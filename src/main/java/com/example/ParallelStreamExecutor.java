@@ -0,0 +1,197 @@
+package com.example;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ParallelStreamExecutor – runs a parallel stream pipeline on a chosen ForkJoinPool instead of the common pool.
+
+- A parallel stream forks its tasks into the pool of the thread that starts the terminal operation.
+  Starting the pipeline inside `pool.submit(...)` therefore keeps all of its work in that pool.
+- `dedicated(parallelism)` creates and owns a pool (shut down by close()),
+  `using(pool)` runs on a caller-supplied pool and leaves it open.
+- Every run returns a RunResult with:
+    - splits          – successful trySplit() calls on the source, i.e. subtasks forked
+    - steals          – growth of the pool's steal count during the run
+    - elementsPerWorker – how many source elements each worker thread consumed
+    - wallTimeNanos   – elapsed time of the whole run
+
+Example:
+    try (ParallelStreamExecutor executor = ParallelStreamExecutor.dedicated(4)) {
+        RunResult<Long> run = executor.run(numbers, s -> s.filter(n -> n % 2 == 0).count());
+        System.out.println(run);
+    }
+ */
+public class ParallelStreamExecutor implements AutoCloseable {
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+
+    private ParallelStreamExecutor(ForkJoinPool pool, boolean ownsPool) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+    }
+
+    public static ParallelStreamExecutor dedicated(int parallelism) {
+        return new ParallelStreamExecutor(new ForkJoinPool(parallelism), true);
+    }
+
+    public static ParallelStreamExecutor using(ForkJoinPool pool) {
+        return new ParallelStreamExecutor(Objects.requireNonNull(pool, "pool"), false);
+    }
+
+    public ForkJoinPool pool() {
+        return pool;
+    }
+
+    public <T, R> RunResult<R> run(Collection<T> source, Function<Stream<T>, R> pipeline) {
+        return run(source.spliterator(), pipeline);
+    }
+
+    public <T, R> RunResult<R> run(Spliterator<T> source, Function<Stream<T>, R> pipeline) {
+        Metrics metrics = new Metrics();
+        Spliterator<T> metered = new MeteredSpliterator<>(source, metrics);
+
+        long stealsBefore = pool.getStealCount();
+        long start = System.nanoTime();
+        R result;
+        try {
+            result = pool.submit(() -> pipeline.apply(StreamSupport.stream(metered, true))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the pipeline", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        long wallTimeNanos = System.nanoTime() - start;
+        long steals = pool.getStealCount() - stealsBefore;
+
+        Map<String, Long> elementsPerWorker = new TreeMap<>();
+        metrics.elementsPerWorker.forEach((worker, count) -> elementsPerWorker.put(worker, count.sum()));
+        return new RunResult<>(result, metrics.splits.sum(), steals, elementsPerWorker, wallTimeNanos);
+    }
+
+    // Shuts down the pool only if this executor created it
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    // --- Result of one run ---
+    public static class RunResult<R> {
+        private final R result;
+        private final long splits;
+        private final long steals;
+        private final Map<String, Long> elementsPerWorker;
+        private final long wallTimeNanos;
+
+        RunResult(R result, long splits, long steals, Map<String, Long> elementsPerWorker, long wallTimeNanos) {
+            this.result = result;
+            this.splits = splits;
+            this.steals = steals;
+            this.elementsPerWorker = Collections.unmodifiableMap(elementsPerWorker);
+            this.wallTimeNanos = wallTimeNanos;
+        }
+
+        public R result() { return result; }
+        public long splits() { return splits; }
+        public long steals() { return steals; }
+        public Map<String, Long> elementsPerWorker() { return elementsPerWorker; }
+        public long wallTimeNanos() { return wallTimeNanos; }
+
+        @Override
+        public String toString() {
+            return "result=" + result
+                    + ", splits=" + splits
+                    + ", steals=" + steals
+                    + ", elementsPerWorker=" + elementsPerWorker
+                    + ", wallTime=" + TimeUnit.NANOSECONDS.toMicros(wallTimeNanos) + "us";
+        }
+    }
+
+    // --- Counters shared by all pieces of one split source ---
+    private static class Metrics {
+        final LongAdder splits = new LongAdder();
+        final ConcurrentMap<String, LongAdder> elementsPerWorker = new ConcurrentHashMap<>();
+
+        void consumed(long count) {
+            if (count > 0) {
+                elementsPerWorker.computeIfAbsent(Thread.currentThread().getName(), k -> new LongAdder()).add(count);
+            }
+        }
+    }
+
+    // Wraps the source so splits and consumed elements are counted without touching the pipeline
+    private static class MeteredSpliterator<T> implements Spliterator<T> {
+        private final Spliterator<T> delegate;
+        private final Metrics metrics;
+
+        MeteredSpliterator(Spliterator<T> delegate, Metrics metrics) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            boolean advanced = delegate.tryAdvance(action);
+            if (advanced) {
+                metrics.consumed(1);
+            }
+            return advanced;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            long[] count = new long[1];
+            delegate.forEachRemaining(t -> {
+                count[0]++;
+                action.accept(t);
+            });
+            metrics.consumed(count[0]);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> prefix = delegate.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            metrics.splits.increment();
+            return new MeteredSpliterator<>(prefix, metrics);
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return delegate.getExactSizeIfKnown();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return delegate.getComparator();
+        }
+    }
+}
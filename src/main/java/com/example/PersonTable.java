@@ -0,0 +1,230 @@
+package com.example;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+/**
+PersonTable – a columnar, dictionary-encoded store for the CollectorsApiExamples Person data.
+
+- One array per field instead of one object per row:
+    - `int[] ages`       – primitive column, no boxing
+    - `int[] cityCodes`  – each city stored once in `cities`, rows keep only an int code
+    - `String[] names`   – name column
+- Aggregations (count / sum / average per city) run over the int arrays
+  with a plain index loop, which is sequential memory access with no pointer chasing.
+- `ages()` / `rows()` expose IntStreams, `toTable()` is a Collector that builds a table from a Person stream.
+
+| Row-based                                           | Columnar                   |
+| --------------------------------------------------- | -------------------------- |
+| `groupingBy(p -> p.city, counting())`               | `table.countByCity()`      |
+| `averagingInt(p -> p.age)`                          | `table.ages().average()`   |
+| `summingInt(p -> p.age)`                            | `table.ages().sum()`       |
+| `groupingBy(p -> p.city, averagingInt(p -> p.age))` | `table.averageAgeByCity()` |
+ */
+public class PersonTable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private String[] names;
+    private int[] ages;
+    private int[] cityCodes;
+    private int size;
+
+    // City dictionary: code -> city and city -> code
+    private final List<String> cities = new ArrayList<>();
+    private final Map<String, Integer> cityIndex = new HashMap<>();
+
+    public PersonTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PersonTable(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        names = new String[capacity];
+        ages = new int[capacity];
+        cityCodes = new int[capacity];
+    }
+
+    public static PersonTable of(Collection<CollectorsApiExamples.Person> people) {
+        PersonTable table = new PersonTable(people.size());
+        for (CollectorsApiExamples.Person p : people) {
+            table.add(p.name, p.age, p.city);
+        }
+        return table;
+    }
+
+    // Collector adapter: people.stream().collect(PersonTable.toTable())
+    public static Collector<CollectorsApiExamples.Person, ?, PersonTable> toTable() {
+        return Collector.of(
+                PersonTable::new,
+                (table, p) -> table.add(p.name, p.age, p.city),
+                PersonTable::addAll);
+    }
+
+    public PersonTable add(String name, int age, String city) {
+        if (size == ages.length) {
+            grow(size + 1);
+        }
+        names[size] = name;
+        ages[size] = age;
+        cityCodes[size] = encodeCity(city);
+        size++;
+        return this;
+    }
+
+    public PersonTable addAll(PersonTable other) {
+        if (size + other.size > ages.length) {
+            grow(size + other.size);
+        }
+        for (int i = 0; i < other.size; i++) {
+            names[size] = other.names[i];
+            ages[size] = other.ages[i];
+            cityCodes[size] = encodeCity(other.cities.get(other.cityCodes[i]));
+            size++;
+        }
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String name(int row) {
+        checkRow(row);
+        return names[row];
+    }
+
+    public int age(int row) {
+        checkRow(row);
+        return ages[row];
+    }
+
+    public String city(int row) {
+        checkRow(row);
+        return cities.get(cityCodes[row]);
+    }
+
+    public int cityCode(int row) {
+        checkRow(row);
+        return cityCodes[row];
+    }
+
+    // Returns the code for a city, or -1 if no row has that city
+    public int cityCodeOf(String city) {
+        Integer code = cityIndex.get(city);
+        return code == null ? -1 : code;
+    }
+
+    public List<String> cityDictionary() {
+        return Collections.unmodifiableList(cities);
+    }
+
+    // --- Stream adapters ---
+
+    public IntStream ages() {
+        return Arrays.stream(ages, 0, size);
+    }
+
+    public IntStream cityCodes() {
+        return Arrays.stream(cityCodes, 0, size);
+    }
+
+    // Row indexes, for filters that need more than one column: table.rows().filter(r -> table.age(r) > 25)
+    public IntStream rows() {
+        return IntStream.range(0, size);
+    }
+
+    // --- Aggregations over the primitive columns ---
+
+    // Equivalent to groupingBy(p -> p.city, counting())
+    public Map<String, Long> countByCity() {
+        return countByCity(row -> true);
+    }
+
+    public Map<String, Long> countByCity(IntPredicate rowFilter) {
+        long[] counts = new long[cities.size()];
+        for (int row = 0; row < size; row++) {
+            if (rowFilter.test(row)) {
+                counts[cityCodes[row]]++;
+            }
+        }
+        Map<String, Long> result = new HashMap<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                result.put(cities.get(code), counts[code]);
+            }
+        }
+        return result;
+    }
+
+    // Equivalent to groupingBy(p -> p.city, summingLong(p -> p.age))
+    public Map<String, Long> sumAgeByCity() {
+        long[] sums = new long[cities.size()];
+        boolean[] seen = new boolean[cities.size()];
+        for (int row = 0; row < size; row++) {
+            sums[cityCodes[row]] += ages[row];
+            seen[cityCodes[row]] = true;
+        }
+        Map<String, Long> result = new HashMap<>();
+        for (int code = 0; code < sums.length; code++) {
+            if (seen[code]) {
+                result.put(cities.get(code), sums[code]);
+            }
+        }
+        return result;
+    }
+
+    // Equivalent to groupingBy(p -> p.city, averagingInt(p -> p.age))
+    public Map<String, Double> averageAgeByCity() {
+        long[] sums = new long[cities.size()];
+        long[] counts = new long[cities.size()];
+        for (int row = 0; row < size; row++) {
+            sums[cityCodes[row]] += ages[row];
+            counts[cityCodes[row]]++;
+        }
+        Map<String, Double> result = new HashMap<>();
+        for (int code = 0; code < sums.length; code++) {
+            if (counts[code] > 0) {
+                result.put(cities.get(code), (double) sums[code] / counts[code]);
+            }
+        }
+        return result;
+    }
+
+    private int encodeCity(String city) {
+        Integer code = cityIndex.get(city);
+        if (code == null) {
+            code = cities.size();
+            cities.add(city);
+            cityIndex.put(city, code);
+        }
+        return code;
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, ages.length + (ages.length >> 1));
+        names = Arrays.copyOf(names, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        cityCodes = Arrays.copyOf(cityCodes, capacity);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int row = 0; row < size; row++) {
+            if (row > 0) {
+                sb.append(", ");
+            }
+            sb.append(names[row]).append(" (").append(ages[row]).append(", ").append(cities.get(cityCodes[row])).append(")");
+        }
+        return sb.append("]").toString();
+    }
+}
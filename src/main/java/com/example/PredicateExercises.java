@@ -1,6 +1,7 @@
 package com.example;
 
 import java.util.*;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -81,5 +82,29 @@ public class PredicateExercises {
                                     .filter(adult)
                                     .collect(Collectors.toList());
         adults.forEach(System.out::println); // Output: Bob (25), Charlie (30)
+
+        // --- Exercise 6: Primitive lane with IntPredicate (no boxing) ---
+        System.out.println("\n=== Exercise 6: IntPredicate over IntList ===");
+        IntList intNumbers = IntList.of(1, 2, 3, 4, 5, 6);
+        IntPredicate isEvenInt = n -> n % 2 == 0;
+        IntPredicate greaterThanThreeInt = n -> n > 3;
+        IntPredicate lessThanSixInt = n -> n < 6;
+        System.out.println(intNumbers.filter(isEvenInt));                              // Output: [2, 4, 6]
+        System.out.println(intNumbers.filter(greaterThanThreeInt.and(lessThanSixInt))); // Output: [4, 5]
+        System.out.println(intNumbers.filter(isEvenInt.negate().or(n -> n == 6)));     // Output: [1, 3, 5, 6]
+
+        // --- Exercise 7: Adaptive predicate chain (reorders and() terms by measured selectivity) ---
+        System.out.println("\n=== Exercise 7: Adaptive predicate chain ===");
+        AdaptivePredicate<Integer> inRange = AdaptivePredicate.<Integer>allOf()
+                .term("greaterThanThree", greaterThanThree)  // passes most numbers
+                .term("lessThanSix", lessThanSix)            // rejects most numbers -> moves to the front
+                .reorderInterval(1_000)
+                .build();
+        long inRangeCount = java.util.stream.IntStream.range(0, 100_000)
+                                                      .boxed()
+                                                      .filter(inRange)
+                                                      .count();
+        System.out.println("Matches: " + inRangeCount); // Output: 2
+        System.out.println("Term order and statistics: " + inRange.statistics());
     }
 }
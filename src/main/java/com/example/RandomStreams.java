@@ -0,0 +1,81 @@
+package com.example;
+
+import java.util.SplittableRandom;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+RandomStreams – sized, evenly splittable random number streams for parallel pipelines.
+
+Problems with `Stream.generate(() -> Math.random()).limit(n).parallel()`:
+    - Math.random() shares one Random with a single AtomicLong seed, so parallel threads contend on it.
+    - Stream.generate is an infinite, unsized source; with limit() it splits poorly.
+
+How RandomStreams works:
+    - Element i is computed from (seed, i) with the SplitMix64 mixing function that SplittableRandom uses,
+      so there is no shared generator state at all.
+    - The source is a LongStream.range(0, n): SIZED + SUBSIZED, split in exact halves.
+    - Same seed and size give the same values, sequential or parallel, whatever the split pattern.
+      (SplittableRandom.doubles(n) is also splittable, but its values depend on how the stream was split.)
+
+Example:
+    double mean = RandomStreams.doubles(42L, 10_000_000).parallel().average().orElse(0);
+ */
+public final class RandomStreams {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private RandomStreams() {
+    }
+
+    // A fresh random seed, for when reproducibility is not needed
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    // Values in [0.0, 1.0), like Math.random()
+    public static DoubleStream doubles(long seed, long size) {
+        checkSize(size);
+        return LongStream.range(0, size).mapToDouble(i -> toDouble(mix64(seed + (i + 1) * GOLDEN_GAMMA)));
+    }
+
+    public static LongStream longs(long seed, long size) {
+        checkSize(size);
+        return LongStream.range(0, size).map(i -> mix64(seed + (i + 1) * GOLDEN_GAMMA));
+    }
+
+    public static IntStream ints(long seed, int size) {
+        checkSize(size);
+        return IntStream.range(0, size).map(i -> (int) (mix64(seed + (i + 1) * GOLDEN_GAMMA) >>> 32));
+    }
+
+    // Values in [origin, bound)
+    public static IntStream ints(long seed, int size, int origin, int bound) {
+        checkSize(size);
+        if (origin >= bound) {
+            throw new IllegalArgumentException("bound must be greater than origin");
+        }
+        long range = (long) bound - origin;
+        return IntStream.range(0, size)
+                .map(i -> origin + (int) (((mix64(seed + (i + 1) * GOLDEN_GAMMA) >>> 32) * range) >>> 32));
+    }
+
+    // SplitMix64 finalizer (same constants as SplittableRandom.mix64)
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double toDouble(long bits) {
+        return (bits >>> 11) * DOUBLE_UNIT;
+    }
+
+    private static void checkSize(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be non-negative: " + size);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+SelectionVector – a reusable list of selected row indexes.
+
+- A filter writes the indexes of matching rows here instead of copying the rows.
+- Later stages read only the selected indexes (or refine them with another filter).
+- `clear()` keeps the backing array, so one vector can be reused for every batch.
+ */
+public class SelectionVector {
+
+    private int[] indexes;
+    private int size;
+
+    public SelectionVector() {
+        this(16);
+    }
+
+    public SelectionVector(int initialCapacity) {
+        indexes = new int[Math.max(initialCapacity, 1)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position: " + position + ", Size: " + size);
+        }
+        return indexes[position];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(indexes[i]);
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(indexes, size);
+    }
+
+    // Makes room for `capacity` indexes without keeping the old content
+    void reset(int capacity) {
+        if (indexes.length < capacity) {
+            indexes = new int[capacity];
+        }
+        size = 0;
+    }
+
+    // Unchecked append; callers reserve the capacity with reset() first
+    void addUnchecked(int index) {
+        indexes[size++] = index;
+    }
+
+    void setSize(int size) {
+        this.size = size;
+    }
+
+    // Backing array, read directly by filters that refine this selection
+    int[] indexes() {
+        return indexes;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
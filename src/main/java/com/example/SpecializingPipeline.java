@@ -0,0 +1,283 @@
+package com.example;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+SpecializingPipeline – filter/map pipelines whose hot pipelines get their own copy of the stage code.
+
+A stream's `map` stage calls `mapper.apply(x)` from one place in the JDK, shared by every pipeline in
+the JVM. Once that call site has seen more than two lambda classes the JIT stops inlining the lambdas
+(profile pollution). This pipeline runs its stages as a chain of small node classes (like Stream's Sink
+chain) and can build them in two ways:
+
+| Built with          | Stage code                                  | Call sites see                  |
+| ------------------- | ------------------------------------------- | ------------------------------- |
+| `build()`           | the shared MapNode / FilterNode / SinkNode  | every lambda of every pipeline  |
+| `specialize(name)`  | a fresh copy of each node class per stage   | only this stage's lambda        |
+
+- A copy is the same bytecode defined again in its own small ClassLoader, so HotSpot treats it as a new
+  class with its own type profile. Copies cost one class definition per stage: specialize the few hot,
+  long-lived pipelines, not every pipeline.
+- The source loop (Driver) is copied as well, so `head.accept` also sees a single node class.
+- When CallSiteProfiler is enabled, each stage is recorded under the call site that will run it.
+
+Example:
+    SpecializingPipeline<String, String> upperA = SpecializingPipeline.<String>builder()
+            .filter(name -> name.startsWith("A"))
+            .map(String::toUpperCase)
+            .specialize("upperA");
+    List<String> result = upperA.toList(names);
+ */
+public final class SpecializingPipeline<T, R> {
+
+    // --- Stage code. Public so that copies in other class loaders can link against Node ---
+
+    public interface Node<E> {
+        void accept(E element);
+    }
+
+    public interface Drain {
+        void drain(List<?> source, Node<Object> head);
+    }
+
+    public static final class MapNode implements Node<Object> {
+        private final Function<Object, Object> mapper;
+        private final Node<Object> next;
+
+        public MapNode(Function<Object, Object> mapper, Node<Object> next) {
+            this.mapper = mapper;
+            this.next = next;
+        }
+
+        @Override
+        public void accept(Object element) {
+            next.accept(mapper.apply(element));
+        }
+    }
+
+    public static final class FilterNode implements Node<Object> {
+        private final Predicate<Object> predicate;
+        private final Node<Object> next;
+
+        public FilterNode(Predicate<Object> predicate, Node<Object> next) {
+            this.predicate = predicate;
+            this.next = next;
+        }
+
+        @Override
+        public void accept(Object element) {
+            if (predicate.test(element)) {
+                next.accept(element);
+            }
+        }
+    }
+
+    public static final class SinkNode implements Node<Object> {
+        private final Consumer<Object> sink;
+
+        public SinkNode(Consumer<Object> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void accept(Object element) {
+            sink.accept(element);
+        }
+    }
+
+    public static final class Driver implements Drain {
+        public Driver() {
+        }
+
+        @Override
+        public void drain(List<?> source, Node<Object> head) {
+            if (source instanceof RandomAccess) {
+                for (int i = 0, n = source.size(); i < n; i++) {
+                    head.accept(source.get(i));
+                }
+            } else {
+                for (Object element : source) {
+                    head.accept(element);
+                }
+            }
+        }
+    }
+
+    // --- Pipeline ---
+
+    private static final ConcurrentMap<String, byte[]> CLASS_BYTES = new ConcurrentHashMap<>();
+
+    private final boolean[] isFilter;
+    private final Object[] functions;
+    private final Constructor<?>[] stageConstructors;   // null entries: use the shared classes
+    private final Constructor<?> sinkConstructor;
+    private final Drain driver;
+
+    private SpecializingPipeline(List<Boolean> isFilter, List<Object> functions, String specializedName) {
+        int stages = functions.size();
+        this.isFilter = new boolean[stages];
+        this.functions = functions.toArray();
+        this.stageConstructors = new Constructor<?>[stages];
+        for (int i = 0; i < stages; i++) {
+            this.isFilter[i] = isFilter.get(i);
+            Class<?> template = this.isFilter[i] ? FilterNode.class : MapNode.class;
+            String kind = this.isFilter[i] ? "filter" : "map";
+            if (specializedName == null) {
+                CallSiteProfiler.record("SpecializingPipeline." + template.getSimpleName() + " (shared)",
+                        this.functions[i]);
+            } else {
+                stageConstructors[i] = copyOf(template).getConstructors()[0];
+                CallSiteProfiler.record(specializedName + "#" + i + " " + kind + " (own copy)", this.functions[i]);
+            }
+        }
+        if (specializedName == null) {
+            this.sinkConstructor = null;
+            this.driver = new Driver();
+        } else {
+            this.sinkConstructor = copyOf(SinkNode.class).getConstructors()[0];
+            this.driver = (Drain) newInstance(copyOf(Driver.class).getConstructors()[0]);
+        }
+    }
+
+    public static <T> Builder<T, T> builder() {
+        return new Builder<>(new ArrayList<>(), new ArrayList<>());
+    }
+
+    public boolean isSpecialized() {
+        return sinkConstructor != null;
+    }
+
+    // Runs every element of source through the stages; survivors go to sink, in order
+    @SuppressWarnings("unchecked")
+    public void run(List<? extends T> source, Consumer<? super R> sink) {
+        Consumer<Object> target = (Consumer<Object>) sink;
+        Node<Object> head = isSpecialized() ? (Node<Object>) newInstance(sinkConstructor, target) : new SinkNode(target);
+        for (int i = functions.length - 1; i >= 0; i--) {
+            if (stageConstructors[i] != null) {
+                head = (Node<Object>) newInstance(stageConstructors[i], functions[i], head);
+            } else if (isFilter[i]) {
+                head = new FilterNode((Predicate<Object>) functions[i], head);
+            } else {
+                head = new MapNode((Function<Object, Object>) functions[i], head);
+            }
+        }
+        driver.drain(source, head);
+    }
+
+    public List<R> toList(List<? extends T> source) {
+        List<R> result = new ArrayList<>();
+        run(source, result::add);
+        return result;
+    }
+
+    // --- Builder: C is the element type after the stages added so far ---
+    public static final class Builder<T, C> {
+        private final List<Boolean> isFilter;
+        private final List<Object> functions;
+
+        private Builder(List<Boolean> isFilter, List<Object> functions) {
+            this.isFilter = isFilter;
+            this.functions = functions;
+        }
+
+        public Builder<T, C> filter(Predicate<? super C> predicate) {
+            return add(true, Objects.requireNonNull(predicate));
+        }
+
+        public <N> Builder<T, N> map(Function<? super C, ? extends N> mapper) {
+            return add(false, Objects.requireNonNull(mapper));
+        }
+
+        // Pipeline running on the shared stage classes
+        public SpecializingPipeline<T, C> build() {
+            return new SpecializingPipeline<>(isFilter, functions, null);
+        }
+
+        // Pipeline running on its own copies of the stage classes; name is used in CallSiteProfiler reports
+        public SpecializingPipeline<T, C> specialize(String name) {
+            return new SpecializingPipeline<>(isFilter, functions, Objects.requireNonNull(name));
+        }
+
+        private <N> Builder<T, N> add(boolean filter, Object function) {
+            List<Boolean> newIsFilter = new ArrayList<>(isFilter);
+            List<Object> newFunctions = new ArrayList<>(functions);
+            newIsFilter.add(filter);
+            newFunctions.add(function);
+            return new Builder<>(newIsFilter, newFunctions);
+        }
+    }
+
+    // --- Class copies ---
+
+    // Defines template's bytecode again in a new class loader: same code, separate type profile
+    static Class<?> copyOf(Class<?> template) {
+        String name = template.getName();
+        byte[] bytes = CLASS_BYTES.computeIfAbsent(name, SpecializingPipeline::readClassBytes);
+        try {
+            return new CopyLoader(template.getClassLoader(), name, bytes).loadClass(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot copy " + name, e);
+        }
+    }
+
+    private static byte[] readClassBytes(String className) {
+        String resource = className.replace('.', '/') + ".class";
+        try (InputStream in = SpecializingPipeline.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Class file not found: " + resource);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int read; (read = in.read(buffer)) > 0; ) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object newInstance(Constructor<?> constructor, Object... arguments) {
+        try {
+            return constructor.newInstance(arguments);
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Loads one class from the given bytes and delegates everything else to the parent
+    private static final class CopyLoader extends ClassLoader {
+        private final String copiedName;
+        private final byte[] bytes;
+
+        CopyLoader(ClassLoader parent, String copiedName, byte[] bytes) {
+            super(parent);
+            this.copiedName = copiedName;
+            this.bytes = bytes;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(copiedName)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                return loaded != null ? loaded : defineClass(name, bytes, 0, bytes.length);
+            }
+        }
+    }
+}
@@ -27,6 +27,9 @@ package com.example;
  */
 
 // StreamApiExamples.java
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.*;
 
@@ -118,6 +121,40 @@ public class StreamApiExamples {
         boolean hasTeenager = people.stream()
                 .anyMatch(p -> p.age < 20);
         System.out.println(hasTeenager);
+
+        // 9. Off-heap records: same pipelines over a flyweight view, no object per record
+        OffHeapPersonStore store = OffHeapPersonStore.of(people);
+        long countLondonOffHeap = store.parallelStream()
+                .filter(p -> p.city().equals("London"))
+                .count();
+        System.out.println(countLondonOffHeap);
+
+        int totalAge = store.stream()
+                .mapToInt(OffHeapPersonStore.PersonView::age)
+                .sum();
+        System.out.println(totalAge);
+
+        List<Person> adultsOffHeap = store.stream()
+                .filter(p -> p.age() >= 25)
+                .map(OffHeapPersonStore.PersonView::toPerson) // copy before collecting: the view is reused
+                .collect(Collectors.toList());
+        System.out.println(adultsOffHeap);
+
+        // 10. Load people from a memory-mapped CSV file and run the same pipeline in parallel
+        try {
+            Path csv = Files.createTempFile("people", ".csv");
+            csv.toFile().deleteOnExit();
+            Files.write(csv, Arrays.asList("name,age,city", "Alice,30,London", "Bob,20,Paris", "Charlie,25,Berlin"));
+
+            try (Stream<Person> csvPeople = MappedPersonCsvReader.parallelStream(csv, true)) {
+                List<Person> csvAdults = csvPeople
+                        .filter(p -> p.age >= 25)
+                        .collect(Collectors.toList());
+                System.out.println(csvAdults);
+            }
+        } catch (IOException e) {
+            System.out.println("Could not read CSV: " + e.getMessage());
+        }
     }
 }
 
@@ -45,16 +45,13 @@ public class StreamsCollectorsOptionalDemo {
         // --- 1. Filtering → Mapping → Grouping ---
         System.out.println("=== 1. Filtering → Mapping → Grouping ===");
 
-        // Filter people older than 25, map to their names, group by city
+        // Filter people older than 25, map to their names, group by city.
+        // Index people by name once instead of rescanning the list for every name (O(n) instead of O(n²)).
+        KeyedIndex<String, Person> peopleByName = KeyedIndex.of(people, p -> p.name);
         Map<String, List<String>> namesByCity = people.stream()
                 .filter(p -> p.age > 25)                 // filtering
                 .map(p -> p.name)                        // mapping
-                .collect(Collectors.groupingBy(
-                        name -> people.stream()
-                                       .filter(p -> p.name.equals(name))
-                                       .findFirst()
-                                       .get().city
-                ));                                      // grouping
+                .collect(peopleByName.groupingBy(p -> p.city)); // grouping
 
         namesByCity.forEach((city, names) -> 
                 System.out.println(city + " -> " + names));
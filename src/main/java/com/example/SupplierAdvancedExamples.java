@@ -1,6 +1,7 @@
 package com.example;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -68,13 +69,67 @@ public class SupplierAdvancedExamples {
                                    .filter(n -> n.startsWith("A") || n.startsWith("B"))
                                    .collect(Collectors.toCollection(HashSet::new)); // Supplier decides collection
         System.out.println("Names in HashSet: " + nameSet);
+
+        // --- 10. Caching an expensive Supplier ---
+        Supplier<Map<String, Integer>> lookupTable = Suppliers.memoize(() -> {
+            System.out.println("Building lookup table...");                // printed only once
+            return names.stream().collect(Collectors.toMap(n -> n, String::length));
+        });
+        System.out.println("Length of Alice: " + lookupTable.get().get("Alice"));
+        System.out.println("Length of Bob: " + lookupTable.get().get("Bob")); // cached, no rebuild
+
+        Supplier<Double> cachedRandom = Suppliers.memoizeWithExpiration(randomSupplier, 1, TimeUnit.MINUTES);
+        System.out.println("Cached random (same value twice): " + cachedRandom.get() + ", " + cachedRandom.get());
+
+        Supplier<StringBuilder> perThreadBuffer = Suppliers.threadLocal(StringBuilder::new);
+        System.out.println("Same buffer on this thread? " + (perThreadBuffer.get() == perThreadBuffer.get()));
+
+        // --- 11. Random numbers for parallel streams ---
+        // Stream.generate(() -> Math.random()) contends on one shared seed and splits poorly in parallel.
+        // RandomStreams is sized, splits evenly and gives the same values for the same seed.
+        List<Double> seededRandoms = RandomStreams.doubles(42L, 5)
+                                                  .parallel()
+                                                  .boxed()
+                                                  .collect(Collectors.toList());
+        System.out.println("Seeded random numbers: " + seededRandoms);
+        System.out.println("Dice rolls: " + Arrays.toString(RandomStreams.ints(42L, 10, 1, 7).toArray()));
+
+        // --- 12. Size-aware factories: the factory receives the expected size ---
+        List<String> arrayCopy = ListCopier.copy(names, ListCopier.arrayList());    // one array copy
+        List<String> presized = ListCopier.copy(names, Vector::new);                // new Vector<>(n)
+        List<String> linked = ListCopier.copy(names, n -> new LinkedList<>());      // size ignored
+        System.out.println("ArrayList copy: " + arrayCopy + " via " + ListCopier.strategyFor(names, ListCopier.arrayList()));
+        System.out.println("Presized Vector copy: " + presized + " via " + ListCopier.strategyFor(names, Vector::new));
+        System.out.println("LinkedList copy: " + linked);
+
+        List<Integer> big = new ArrayList<>(Collections.nCopies(ListCopier.PARALLEL_THRESHOLD, 7));
+        List<Integer> bigCopy = ListCopier.copy(big, ListCopier.arrayList());
+        System.out.println("Copied " + bigCopy.size() + " elements via " + ListCopier.strategyFor(big, ListCopier.arrayList())
+                + " (parallel only with more than one core), equal: " + bigCopy.equals(big));
+
+        // --- 13. Blocking Suppliers: many slow calls at once, results in input order ---
+        List<Supplier<String>> slowServices = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int id = i;
+            slowServices.add(() -> {
+                try {
+                    Thread.sleep(10); // stand-in for a local service call
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "response-" + id;
+            });
+        }
+        try (BlockingStageExecutor io = BlockingStageExecutor.create(100)) {
+            List<String> responses = io.getAll(slowServices);
+            System.out.println(responses.size() + " responses, first " + responses.subList(0, 3)
+                    + ", last " + responses.get(responses.size() - 1) + " on " + io);
+        }
     }
 
     // Generic copy method using Supplier
     public static <T> List<T> copyList(List<T> source, Supplier<List<T>> factory) {
-        List<T> copy = factory.get();
-        copy.addAll(source);
-        return copy;
+        return ListCopier.copyFromSupplier(source, factory);
     }
 
     // Copy method without Supplier (fixed ArrayList)
@@ -39,9 +39,7 @@ public class SupplierVsDirect {
 
     // Generic copy method using Supplier
     public static <T> List<T> copyList(List<T> source, Supplier<List<T>> factory) {
-        List<T> copy = factory.get(); // use supplied factory to create list
-        copy.addAll(source);
-        return copy;
+        return ListCopier.copyFromSupplier(source, factory);
     }
 
     // Generic copy method without Supplier (just uses ArrayList)
@@ -0,0 +1,135 @@
+package com.example;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+Suppliers – caching wrappers around an expensive Supplier.
+
+| Method                               | Computes                              | Safe for threads            |
+| ------------------------------------ | ------------------------------------- | --------------------------- |
+| `memoize(s)`                         | once, on the first get()              | yes, exactly once           |
+| `memoizeWithExpiration(s, ttl, u)`   | first get(), then again after ttl     | yes, one refresh at a time  |
+| `threadLocal(s)`                     | once per thread                       | yes, nothing is shared      |
+
+- memoize uses double-checked locking on a volatile field: after warm-up get() is one volatile read.
+- memoizeWithExpiration only blocks on the very first get(). After that, an expired value is still
+  returned while a single background task (on the given Executor) computes the replacement.
+- If the delegate throws, nothing is cached and the next get() tries again.
+ */
+public final class Suppliers {
+
+    private Suppliers() {
+    }
+
+    public static <T> Supplier<T> memoize(Supplier<T> delegate) {
+        return new MemoizingSupplier<>(Objects.requireNonNull(delegate, "delegate"));
+    }
+
+    public static <T> Supplier<T> memoizeWithExpiration(Supplier<T> delegate, long duration, TimeUnit unit) {
+        return memoizeWithExpiration(delegate, duration, unit, ForkJoinPool.commonPool());
+    }
+
+    public static <T> Supplier<T> memoizeWithExpiration(Supplier<T> delegate, long duration, TimeUnit unit,
+                                                        Executor refreshExecutor) {
+        if (duration <= 0) {
+            throw new IllegalArgumentException("duration must be positive: " + duration);
+        }
+        return new ExpiringMemoizingSupplier<>(Objects.requireNonNull(delegate, "delegate"),
+                unit.toNanos(duration), Objects.requireNonNull(refreshExecutor, "refreshExecutor"));
+    }
+
+    public static <T> Supplier<T> threadLocal(Supplier<T> delegate) {
+        ThreadLocal<T> perThread = ThreadLocal.withInitial(Objects.requireNonNull(delegate, "delegate"));
+        return perThread::get;
+    }
+
+    // --- Computes once, then returns the cached value ---
+    private static class MemoizingSupplier<T> implements Supplier<T> {
+        private Supplier<T> delegate;      // cleared after the first computation
+        private volatile boolean initialized;
+        private T value;                   // published by the volatile write to initialized
+
+        MemoizingSupplier(Supplier<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T get() {
+            if (!initialized) {
+                synchronized (this) {
+                    if (!initialized) {
+                        value = delegate.get();
+                        initialized = true;
+                        delegate = null;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+
+    // --- Caches for a fixed time, refreshing in the background once expired ---
+    private static class ExpiringMemoizingSupplier<T> implements Supplier<T> {
+        private final Supplier<T> delegate;
+        private final long durationNanos;
+        private final Executor refreshExecutor;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile Entry<T> entry;
+
+        ExpiringMemoizingSupplier(Supplier<T> delegate, long durationNanos, Executor refreshExecutor) {
+            this.delegate = delegate;
+            this.durationNanos = durationNanos;
+            this.refreshExecutor = refreshExecutor;
+        }
+
+        @Override
+        public T get() {
+            Entry<T> current = entry;
+            if (current == null) {
+                synchronized (this) {
+                    current = entry;
+                    if (current == null) {
+                        current = compute();
+                        entry = current;
+                    }
+                }
+            }
+            if (System.nanoTime() - current.expiresAtNanos >= 0 && refreshing.compareAndSet(false, true)) {
+                try {
+                    refreshExecutor.execute(this::refresh);
+                } catch (RuntimeException e) {
+                    refreshing.set(false); // executor rejected the task; a later get() tries again
+                }
+            }
+            return current.value;
+        }
+
+        private void refresh() {
+            try {
+                entry = compute();
+            } finally {
+                refreshing.set(false);
+            }
+        }
+
+        private Entry<T> compute() {
+            T value = delegate.get();
+            return new Entry<>(value, System.nanoTime() + durationNanos);
+        }
+    }
+
+    private static class Entry<T> {
+        final T value;
+        final long expiresAtNanos;
+
+        Entry(T value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.example;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+TimeWindows – tumbling and sliding time windows over events, with any downstream collector per window.
+
+| Window   | Created with                       | An event at t belongs to                     |
+| -------- | ---------------------------------- | -------------------------------------------- |
+| tumbling | `TimeWindows.tumbling(size)`       | the one window [k*size, (k+1)*size)          |
+| sliding  | `TimeWindows.sliding(size, slide)` | every window [k*slide, k*slide + size) with t |
+
+- Windows are aligned to the epoch (UTC) and identified by their start. An event's window is found with
+  long arithmetic on its epoch millisecond (floorDiv), never by building LocalDateTime objects per event.
+  LocalDateTime keys are created once per window, when the results are handed out.
+- `collector(time, downstream)` is a Collector<T, ?, SortedMap<LocalDateTime, R>>: it keeps every window
+  until the stream ends, so the input may be in any order. Works in parallel streams.
+- `aggregator(time, downstream, allowedLateness, onWindow)` is a Consumer<T> for endless input. It keeps
+  only the open windows in a ring of slots, closes a window once the newest event time minus
+  allowedLateness passes its end, and hands (start, result) to onWindow. Older events are counted as late
+  and dropped. Not thread-safe: feed it from one thread.
+- Sizes are whole milliseconds; for sliding windows the size must be a multiple of the slide.
+
+Example – events per minute:
+    SortedMap<LocalDateTime, Long> perMinute = events.stream()
+            .collect(TimeWindows.tumbling(Duration.ofMinutes(1)).collector(Event::time, Collectors.counting()));
+ */
+public final class TimeWindows {
+
+    private final long sizeMillis;
+    private final long slideMillis;
+
+    private TimeWindows(long sizeMillis, long slideMillis) {
+        this.sizeMillis = sizeMillis;
+        this.slideMillis = slideMillis;
+    }
+
+    public static TimeWindows tumbling(Duration size) {
+        long sizeMillis = toPositiveMillis(size, "size");
+        return new TimeWindows(sizeMillis, sizeMillis);
+    }
+
+    public static TimeWindows sliding(Duration size, Duration slide) {
+        long sizeMillis = toPositiveMillis(size, "size");
+        long slideMillis = toPositiveMillis(slide, "slide");
+        if (sizeMillis % slideMillis != 0) {
+            throw new IllegalArgumentException("size " + size + " must be a multiple of slide " + slide);
+        }
+        return new TimeWindows(sizeMillis, slideMillis);
+    }
+
+    // Epoch millisecond of a LocalDateTime taken as UTC, without creating an Instant
+    public static long epochMilli(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().toEpochDay() * 86_400_000L + dateTime.toLocalTime().toNanoOfDay() / 1_000_000;
+    }
+
+    static LocalDateTime fromEpochMilli(long epochMilli) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMilli, 1000L),
+                (int) Math.floorMod(epochMilli, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    public Duration size() {
+        return Duration.ofMillis(sizeMillis);
+    }
+
+    public Duration slide() {
+        return Duration.ofMillis(slideMillis);
+    }
+
+    // --- Collector: all windows, any input order ---
+
+    public <T, A, R> Collector<T, ?, SortedMap<LocalDateTime, R>> collector(
+            Function<? super T, LocalDateTime> time, Collector<? super T, A, R> downstream) {
+        Objects.requireNonNull(time);
+        return collectorByEpochMilli(event -> epochMilli(time.apply(event)), downstream);
+    }
+
+    public <T, A, R> Collector<T, ?, SortedMap<LocalDateTime, R>> collectorByEpochMilli(
+            ToLongFunction<? super T> epochMilli, Collector<? super T, A, R> downstream) {
+        Objects.requireNonNull(epochMilli);
+        Supplier<A> newContainer = downstream.supplier();
+        BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        long windowsPerEvent = sizeMillis / slideMillis;
+
+        return Collector.<T, LongKeyMap<A>, SortedMap<LocalDateTime, R>>of(
+                LongKeyMap::new,
+                (windows, event) -> {
+                    long last = Math.floorDiv(epochMilli.applyAsLong(event), slideMillis);
+                    for (long k = last - windowsPerEvent + 1; k <= last; k++) {
+                        A container = windows.get(k);
+                        if (container == null) {
+                            container = newContainer.get();
+                            windows.put(k, container);
+                        }
+                        accumulator.accept(container, event);
+                    }
+                },
+                (left, right) -> {
+                    for (int slot = 0; slot < right.keys.length; slot++) {
+                        if (right.used[slot]) {
+                            @SuppressWarnings("unchecked")
+                            A rightContainer = (A) right.values[slot];
+                            A leftContainer = left.get(right.keys[slot]);
+                            left.put(right.keys[slot], leftContainer == null
+                                    ? rightContainer
+                                    : downstream.combiner().apply(leftContainer, rightContainer));
+                        }
+                    }
+                    return left;
+                },
+                windows -> {
+                    SortedMap<LocalDateTime, R> result = new TreeMap<>();
+                    for (int slot = 0; slot < windows.keys.length; slot++) {
+                        if (windows.used[slot]) {
+                            @SuppressWarnings("unchecked")
+                            A container = (A) windows.values[slot];
+                            result.put(fromEpochMilli(windows.keys[slot] * slideMillis),
+                                    downstream.finisher().apply(container));
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    // --- Aggregator: only open windows, bounded lateness ---
+
+    public <T, A, R> Aggregator<T, A, R> aggregator(Function<? super T, LocalDateTime> time,
+                                                    Collector<? super T, A, R> downstream,
+                                                    Duration allowedLateness,
+                                                    BiConsumer<LocalDateTime, ? super R> onWindow) {
+        Objects.requireNonNull(time);
+        return aggregatorByEpochMilli(event -> epochMilli(time.apply(event)), downstream, allowedLateness, onWindow);
+    }
+
+    public <T, A, R> Aggregator<T, A, R> aggregatorByEpochMilli(ToLongFunction<? super T> epochMilli,
+                                                                Collector<? super T, A, R> downstream,
+                                                                Duration allowedLateness,
+                                                                BiConsumer<LocalDateTime, ? super R> onWindow) {
+        long latenessMillis = allowedLateness.toMillis();
+        if (latenessMillis < 0) {
+            throw new IllegalArgumentException("allowedLateness must not be negative: " + allowedLateness);
+        }
+        return new Aggregator<>(this, Objects.requireNonNull(epochMilli), downstream, latenessMillis,
+                Objects.requireNonNull(onWindow));
+    }
+
+    /**
+    Push-based windowing: accept events, windows are emitted in start order as they close.
+
+    - window k covers [k*slide, k*slide + size); it closes when maxEventTime - allowedLateness >= its end
+    - open windows always lie in [nextToClose, maxEventTime / slide], so a ring of
+      (size + allowedLateness) / slide + 2 slots holds them all, indexed by k modulo the ring length
+    - `flush()` emits the windows still open (e.g. at the end of the input)
+     */
+    public static final class Aggregator<T, A, R> implements Consumer<T> {
+        private final long sizeMillis;
+        private final long slideMillis;
+        private final long latenessMillis;
+        private final long windowsPerEvent;
+        private final ToLongFunction<? super T> epochMilli;
+        private final Supplier<A> newContainer;
+        private final BiConsumer<A, ? super T> accumulator;
+        private final Function<A, R> finisher;
+        private final BiConsumer<LocalDateTime, ? super R> onWindow;
+
+        private final long[] slotWindow;   // window index held by each slot
+        private final Object[] slotContainer;
+        private boolean started;
+        private long maxEventTime;
+        private long nextToClose;          // lowest window index that is not closed yet
+        private long lateEvents;
+        private long emittedWindows;
+
+        private Aggregator(TimeWindows windows, ToLongFunction<? super T> epochMilli,
+                           Collector<? super T, A, R> downstream, long latenessMillis,
+                           BiConsumer<LocalDateTime, ? super R> onWindow) {
+            this.sizeMillis = windows.sizeMillis;
+            this.slideMillis = windows.slideMillis;
+            this.latenessMillis = latenessMillis;
+            this.windowsPerEvent = sizeMillis / slideMillis;
+            this.epochMilli = epochMilli;
+            this.newContainer = downstream.supplier();
+            this.accumulator = downstream.accumulator();
+            this.finisher = downstream.finisher();
+            this.onWindow = onWindow;
+            long slots = (sizeMillis + latenessMillis) / slideMillis + 2;
+            if (slots > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Too many open windows: " + slots);
+            }
+            this.slotWindow = new long[(int) slots];
+            this.slotContainer = new Object[(int) slots];
+        }
+
+        @Override
+        public void accept(T event) {
+            long t = epochMilli.applyAsLong(event);
+            if (!started) {
+                started = true;
+                maxEventTime = t;
+                nextToClose = firstOpenWindow(t);
+            } else if (t > maxEventTime) {
+                maxEventTime = t;
+                closeBefore(firstOpenWindow(t));
+            }
+
+            long last = Math.floorDiv(t, slideMillis);
+            long first = last - windowsPerEvent + 1;
+            if (last < nextToClose) {
+                lateEvents++;
+                return;
+            }
+            for (long k = Math.max(first, nextToClose); k <= last; k++) {
+                int slot = (int) Math.floorMod(k, (long) slotWindow.length);
+                @SuppressWarnings("unchecked")
+                A container = (A) slotContainer[slot];
+                if (container == null) {
+                    container = newContainer.get();
+                    slotContainer[slot] = container;
+                    slotWindow[slot] = k;
+                }
+                accumulator.accept(container, event);
+            }
+        }
+
+        // Emits every window that is still open and starts over
+        public void flush() {
+            if (started) {
+                closeBefore(Math.floorDiv(maxEventTime, slideMillis) + 1);
+                started = false;
+            }
+        }
+
+        public long lateEvents() {
+            return lateEvents;
+        }
+
+        public long emittedWindows() {
+            return emittedWindows;
+        }
+
+        public int openWindows() {
+            int open = 0;
+            for (Object container : slotContainer) {
+                if (container != null) {
+                    open++;
+                }
+            }
+            return open;
+        }
+
+        // Smallest window index whose end is after the watermark maxEventTime - allowedLateness
+        private long firstOpenWindow(long maxTime) {
+            return Math.floorDiv(maxTime - latenessMillis - sizeMillis, slideMillis) + 1;
+        }
+
+        private void closeBefore(long limit) {
+            // Every open window is below nextToClose + slots, so a large jump only needs one pass over the ring
+            long end = Math.min(limit, nextToClose + slotWindow.length);
+            for (long k = nextToClose; k < end; k++) {
+                int slot = (int) Math.floorMod(k, (long) slotWindow.length);
+                Object container = slotContainer[slot];
+                if (container != null && slotWindow[slot] == k) {
+                    slotContainer[slot] = null;
+                    @SuppressWarnings("unchecked")
+                    A typed = (A) container;
+                    onWindow.accept(fromEpochMilli(k * slideMillis), finisher.apply(typed));
+                    emittedWindows++;
+                }
+            }
+            nextToClose = Math.max(nextToClose, limit);
+        }
+    }
+
+    // --- Open-addressing map from window index to container, no boxing of the long key ---
+    private static final class LongKeyMap<V> {
+        long[] keys = new long[16];
+        Object[] values = new Object[16];
+        boolean[] used = new boolean[16];
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        V get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = hash(key) & mask; used[slot]; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return (V) values[slot];
+                }
+            }
+            return null;
+        }
+
+        void put(long key, V value) {
+            if (2 * (size + 1) > keys.length) {
+                grow();
+            }
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (used[slot]) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            used[slot] = true;
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            boolean[] oldUsed = used;
+            keys = new long[oldKeys.length * 2];
+            values = new Object[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            size = 0;
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldUsed[slot]) {
+                    @SuppressWarnings("unchecked")
+                    V value = (V) oldValues[slot];
+                    put(oldKeys[slot], value);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    private static long toPositiveMillis(Duration duration, String name) {
+        long millis = duration.toMillis();
+        if (millis <= 0 || !Duration.ofMillis(millis).equals(duration)) {
+            throw new IllegalArgumentException(name + " must be a positive whole number of milliseconds: " + duration);
+        }
+        return millis;
+    }
+}
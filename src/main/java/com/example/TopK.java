@@ -0,0 +1,167 @@
+package com.example;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+TopK – collectors for the k largest (or smallest) elements without sorting the whole stream.
+
+| Instead of                        | Use                                             |
+| --------------------------------- | ----------------------------------------------- |
+| `sorted(cmp.reversed()).limit(k)` | `collect(TopK.largest(k, cmp))`                 |
+| `sorted(cmp).limit(k)`            | `collect(TopK.smallest(k, cmp))`                |
+| `reduce(maxByLength)` (k = 1)     | `collect(TopK.largestByInt(1, String::length))` |
+
+- Each container is a min-heap bounded to k elements: the root is the weakest kept element,
+  and a new element only enters if it beats the root. Cost O(n log k) time, O(k) memory per container.
+- In a parallel stream every leaf gets its own heap, and heaps are merged by offering one into the other.
+- `largestByInt` / `largestByLong` keep the keys in a long[] next to the elements, so the key is
+  extracted once per element and compared as a primitive.
+- The result list is ordered best first. Ties keep no particular order.
+ */
+public final class TopK {
+
+    private TopK() {
+    }
+
+    public static <T> Collector<T, ?, List<T>> largest(int k, Comparator<? super T> comparator) {
+        checkK(k);
+        Objects.requireNonNull(comparator);
+        return Collector.<T, PriorityQueue<T>, List<T>>of(
+                () -> new PriorityQueue<>(k + 1, comparator),
+                (heap, element) -> offer(heap, element, k, comparator),
+                (left, right) -> {
+                    for (T element : right) {
+                        offer(left, element, k, comparator);
+                    }
+                    return left;
+                },
+                heap -> {
+                    List<T> result = new ArrayList<>(heap);
+                    result.sort(comparator.reversed());
+                    return result;
+                },
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static <T> Collector<T, ?, List<T>> smallest(int k, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        Comparator<T> reversed = (a, b) -> comparator.compare(b, a);
+        return largest(k, reversed);
+    }
+
+    public static <T> Collector<T, ?, List<T>> largestByInt(int k, ToIntFunction<? super T> key) {
+        Objects.requireNonNull(key);
+        return largestByLong(k, element -> key.applyAsInt(element));
+    }
+
+    public static <T> Collector<T, ?, List<T>> largestByLong(int k, ToLongFunction<? super T> key) {
+        checkK(k);
+        Objects.requireNonNull(key);
+        return Collector.<T, LongKeyHeap<T>, List<T>>of(
+                () -> new LongKeyHeap<>(k),
+                (heap, element) -> heap.offer(key.applyAsLong(element), element),
+                LongKeyHeap::mergeFrom,
+                LongKeyHeap::toSortedList,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    private static <T> void offer(PriorityQueue<T> heap, T element, int k, Comparator<? super T> comparator) {
+        if (heap.size() < k) {
+            heap.add(element);
+        } else if (comparator.compare(element, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    private static void checkK(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+    }
+
+    // --- Binary min-heap on primitive long keys, bounded to k entries ---
+    private static class LongKeyHeap<T> {
+        private final long[] keys;
+        private final Object[] values;
+        private int size;
+
+        LongKeyHeap(int k) {
+            keys = new long[k];
+            values = new Object[k];
+        }
+
+        void offer(long key, T value) {
+            if (size < keys.length) {
+                keys[size] = key;
+                values[size] = value;
+                siftUp(size++);
+            } else if (key > keys[0]) {
+                keys[0] = key;
+                values[0] = value;
+                siftDown(0);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        LongKeyHeap<T> mergeFrom(LongKeyHeap<T> other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.keys[i], (T) other.values[i]);
+            }
+            return this;
+        }
+
+        // Drains the heap (smallest first) and fills the list from the back: largest key first
+        @SuppressWarnings("unchecked")
+        List<T> toSortedList() {
+            Object[] result = new Object[size];
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = values[0];
+                size--;
+                keys[0] = keys[size];
+                values[0] = values[size];
+                values[size] = null;
+                siftDown(0);
+            }
+            return (List<T>) Arrays.asList(result);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (keys[parent] <= keys[index]) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = left + 1 < size && keys[left + 1] < keys[left] ? left + 1 : left;
+                if (keys[index] <= keys[smallest]) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+            Object value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example;
 
 import java.util.*;
+import java.util.function.IntUnaryOperator;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -60,11 +61,22 @@ public class UnaryOperatorExercises {
         // --- Exercise 5: UnaryOperator chaining ---
         System.out.println("\n=== Exercise 5: UnaryOperator chaining ===");
         UnaryOperator<Integer> multiplyByTwo = n -> n * 2;
-        UnaryOperator<Integer> incrementThenDouble = (UnaryOperator<Integer>) increment.andThen(multiplyByTwo);
+        // andThen() returns a Function, not a UnaryOperator, so casting its result fails at runtime
+        UnaryOperator<Integer> incrementThenDouble = n -> multiplyByTwo.apply(increment.apply(n));
 
         List<Integer> result = numbers.stream()
                                       .map(incrementThenDouble)
                                       .collect(Collectors.toList());
         System.out.println(result); // Output: [4, 6, 8, 10, 12]
+
+        // --- Exercise 6: Primitive lane with IntUnaryOperator (no boxing) ---
+        System.out.println("\n=== Exercise 6: IntUnaryOperator chaining over IntList ===");
+        IntList intNumbers = IntList.of(1, 2, 3, 4, 5);
+        IntUnaryOperator incrementInt = n -> n + 1;
+        IntUnaryOperator multiplyByTwoInt = n -> n * 2;
+        IntUnaryOperator incrementThenDoubleInt = incrementInt.andThen(multiplyByTwoInt); // no cast needed
+
+        System.out.println(intNumbers.map(incrementThenDoubleInt)); // Output: [4, 6, 8, 10, 12]
+        System.out.println(intNumbers.map(incrementInt.compose(multiplyByTwoInt))); // Output: [3, 5, 7, 9, 11]
     }
 }
@@ -0,0 +1,130 @@
+package com.example;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+Zip – combines two sources element by element with a BiFunction.
+
+- Object version: `zip(firstNames, lastNames, fullName)` returns a Stream<R> whose Spliterator is
+  SIZED + SUBSIZED and splits its index range in exact halves, so `.parallel()` spreads evenly.
+  The length is the shorter of the two sources, like the Math.min loop in BiFunctionExercises.
+- Primitive version: `zipInto(a, b, op, out)` writes into a preallocated int[] / double[];
+  `parallelZipInto` does the same over an evenly split index range. No boxing, no per-element objects.
+- Lists should be RandomAccess (ArrayList, Arrays.asList); other lists are copied to an ArrayList first.
+ */
+public final class Zip {
+
+    private Zip() {
+    }
+
+    public static <A, B, R> Stream<R> zip(List<A> first, List<B> second,
+                                          BiFunction<? super A, ? super B, ? extends R> combiner) {
+        List<A> a = first instanceof RandomAccess ? first : new ArrayList<>(first);
+        List<B> b = second instanceof RandomAccess ? second : new ArrayList<>(second);
+        int size = Math.min(a.size(), b.size());
+        return StreamSupport.stream(new ZipSpliterator<>(i -> combiner.apply(a.get(i), b.get(i)), 0, size), false);
+    }
+
+    public static <A, B, R> Stream<R> zip(A[] first, B[] second,
+                                          BiFunction<? super A, ? super B, ? extends R> combiner) {
+        int size = Math.min(first.length, second.length);
+        return StreamSupport.stream(new ZipSpliterator<>(i -> combiner.apply(first[i], second[i]), 0, size), false);
+    }
+
+    // --- Primitive variants writing into a preallocated array ---
+
+    public static int[] zipInto(int[] first, int[] second, IntBinaryOperator op, int[] out) {
+        int size = checkLengths(first.length, second.length, out.length);
+        for (int i = 0; i < size; i++) {
+            out[i] = op.applyAsInt(first[i], second[i]);
+        }
+        return out;
+    }
+
+    public static double[] zipInto(double[] first, double[] second, DoubleBinaryOperator op, double[] out) {
+        int size = checkLengths(first.length, second.length, out.length);
+        for (int i = 0; i < size; i++) {
+            out[i] = op.applyAsDouble(first[i], second[i]);
+        }
+        return out;
+    }
+
+    public static int[] parallelZipInto(int[] first, int[] second, IntBinaryOperator op, int[] out) {
+        int size = checkLengths(first.length, second.length, out.length);
+        IntStream.range(0, size).parallel().forEach(i -> out[i] = op.applyAsInt(first[i], second[i]));
+        return out;
+    }
+
+    public static double[] parallelZipInto(double[] first, double[] second, DoubleBinaryOperator op, double[] out) {
+        int size = checkLengths(first.length, second.length, out.length);
+        IntStream.range(0, size).parallel().forEach(i -> out[i] = op.applyAsDouble(first[i], second[i]));
+        return out;
+    }
+
+    private static int checkLengths(int first, int second, int out) {
+        int size = Math.min(first, second);
+        if (out < size) {
+            throw new IllegalArgumentException("Output array has length " + out + ", needs at least " + size);
+        }
+        return size;
+    }
+
+    // --- Index-range Spliterator: element i is combiner(first[i], second[i]) ---
+    private static class ZipSpliterator<R> implements Spliterator<R> {
+        private final IntFunction<? extends R> element;
+        private int from;
+        private final int to;
+
+        ZipSpliterator(IntFunction<? extends R> element, int from, int to) {
+            this.element = element;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            if (from >= to) {
+                return false;
+            }
+            action.accept(element.apply(from++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            for (int i = from; i < to; i++) {
+                action.accept(element.apply(i));
+            }
+            from = to;
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            int mid = (from + to) >>> 1;
+            if (mid <= from) {
+                return null;
+            }
+            Spliterator<R> prefix = new ZipSpliterator<>(element, from, mid);
+            from = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | ORDERED | IMMUTABLE;
+        }
+    }
+}
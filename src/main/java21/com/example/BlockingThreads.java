@@ -0,0 +1,35 @@
+package com.example;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+BlockingThreads – where BlockingStageExecutor runs its blocking calls. Java 21 version: virtual threads.
+
+Packaged as META-INF/versions/21/com/example/BlockingThreads.class of the multi-release JAR; Java 8 .. 20
+load the platform-thread version from src/main/java. Both versions have the same members.
+
+- One new virtual thread per call. A blocked virtual thread releases its carrier (an OS thread of a small
+  fork/join pool), so thousands of waiting calls need only a few OS threads.
+- maxConcurrency is enforced by BlockingStageExecutor, not here: creating virtual threads is cheap,
+  and pooling them would defeat their purpose.
+ */
+final class BlockingThreads {
+
+    static final int PLATFORM_THREAD_LIMIT = 256;
+
+    private BlockingThreads() {
+    }
+
+    static boolean virtual() {
+        return true;
+    }
+
+    static ExecutorService newExecutor(int maxConcurrency, String namePrefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix + "-virtual-", 1).factory());
+    }
+
+    static String describe(int maxConcurrency) {
+        return "virtual threads (up to " + maxConcurrency + " at once)";
+    }
+}
@@ -0,0 +1,138 @@
+package com.example;
+
+import static org.junit.Assert.*;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+public class AsyncBatchingSinkTest {
+
+    private static final String NL = System.lineSeparator();
+
+    @Test(timeout = 10_000)
+    public void nullLinesAreWrittenAsNull() {
+        StringWriter out = new StringWriter();
+        try (AsyncBatchingSink<String> sink = AsyncBatchingSink.<String>builder()
+                .capacity(2)
+                .format(s -> s.isEmpty() ? null : s)
+                .toWriter(out)) {
+            for (int i = 0; i < 10; i++) {
+                sink.accept(i % 2 == 0 ? "" : "x");
+            }
+            sink.flush();
+        }
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            expected.append(i % 2 == 0 ? "null" : "x").append(NL);
+        }
+        assertEquals(expected.toString(), out.toString());
+    }
+
+    @Test(timeout = 30_000)
+    public void everyLineFromEveryProducerIsWritten() throws InterruptedException {
+        StringWriter out = new StringWriter();
+        int producers = 4;
+        int perProducer = 20_000;
+        try (AsyncBatchingSink<Integer> sink = AsyncBatchingSink.<Integer>builder()
+                .capacity(64).batchSize(7).toWriter(out)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < producers; t++) {
+                int base = t * perProducer;
+                threads.add(new Thread(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        sink.accept(base + i);
+                    }
+                }));
+            }
+            threads.forEach(Thread::start);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+        String[] lines = out.toString().split(NL);
+        assertEquals(producers * perProducer, lines.length);
+        BitSet seen = new BitSet();
+        for (String line : lines) {
+            seen.set(Integer.parseInt(line));
+        }
+        assertEquals(producers * perProducer, seen.cardinality());
+    }
+
+    @Test(timeout = 10_000)
+    public void runtimeFailureOfTargetReachesBlockedProducer() {
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] chars, int offset, int length) {
+                throw new IllegalArgumentException("target broken");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AsyncBatchingSink<Integer> sink = AsyncBatchingSink.<Integer>builder().capacity(1).toWriter(failing);
+        try {
+            for (int i = 0; i < 1_000; i++) {
+                sink.accept(i);   // BLOCK: must not wait forever once the writer is dead
+            }
+            fail("accept should report the writer failure");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+        try {
+            sink.close();
+            fail("close should report the writer failure");
+        } catch (IllegalStateException e) {
+            assertEquals("target broken", e.getCause().getMessage());
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void flushReturnsWhileOtherThreadsKeepProducing() throws InterruptedException {
+        AtomicBoolean producing = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(1);
+        try (AsyncBatchingSink<Integer> sink = AsyncBatchingSink.<Integer>builder()
+                .toWriter(new Writer() {   // discards, so the endless producer does not fill the heap
+                    @Override
+                    public void write(char[] chars, int offset, int length) {
+                    }
+
+                    @Override
+                    public Writer append(CharSequence chars) {
+                        return this;
+                    }
+
+                    @Override
+                    public void flush() {
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                })) {
+            Thread producer = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; producing.get(); i++) {
+                    sink.accept(i);
+                }
+            });
+            producer.start();
+            started.await();
+            for (int i = 0; i < 100; i++) {
+                sink.accept(-i);
+                sink.flush();   // the ring never runs empty here
+            }
+            producing.set(false);
+            producer.join();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class ConcurrentGroupingCollectorsTest {
+
+    private static final int SIZE = 2_000_000;
+    private static final String[] CITIES = {"London", "Paris", "Berlin", "Madrid", "Rome"};
+
+    private static final List<int[]> ROWS = rows();   // {city index, age}
+    private static final Function<int[], String> CITY = row -> CITIES[row[0]];
+    private static final ToIntFunction<int[]> AGE = row -> row[1];
+
+    private static List<int[]> rows() {
+        Random random = new Random(42);
+        List<int[]> rows = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            rows.add(new int[] {random.nextInt(CITIES.length), 18 + random.nextInt(60)});
+        }
+        return rows;
+    }
+
+    // parallelStream() on a dedicated 4-worker pool, so the shared map sees real contention even on one core
+    private static <R> R collectInParallel(Collector<int[], ?, R> collector) {
+        try (ParallelStreamExecutor executor = ParallelStreamExecutor.dedicated(4)) {
+            return executor.run(ROWS, stream -> stream.collect(collector)).result();
+        }
+    }
+
+    @Test
+    public void countingByMatchesSequentialCounting() {
+        Map<String, Long> expected = ROWS.stream().collect(Collectors.groupingBy(CITY, Collectors.counting()));
+        Map<String, Long> actual = collectInParallel(ConcurrentGroupingCollectors.countingBy(CITY));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void summingIntByMatchesSequentialSummingInt() {
+        Map<String, Integer> expected = ROWS.stream()
+                .collect(Collectors.groupingBy(CITY, Collectors.summingInt(AGE)));
+        Map<String, Long> actual = collectInParallel(ConcurrentGroupingCollectors.summingIntBy(CITY, AGE));
+        assertEquals(expected.keySet(), actual.keySet());
+        expected.forEach((city, sum) -> assertEquals(city, sum.longValue(), actual.get(city).longValue()));
+    }
+
+    @Test
+    public void averagingIntByMatchesSequentialAveragingInt() {
+        Map<String, Double> expected = ROWS.stream()
+                .collect(Collectors.groupingBy(CITY, Collectors.averagingInt(AGE)));
+        Map<String, Double> actual = collectInParallel(ConcurrentGroupingCollectors.averagingIntBy(CITY, AGE));
+        assertEquals(expected.keySet(), actual.keySet());
+        expected.forEach((city, average) -> assertEquals(city, average, actual.get(city), 1e-9));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+public class ParallelBulkUpdateTest {
+
+    private static final int SIZE = ParallelBulkUpdate.PARALLEL_THRESHOLD * 4;
+
+    // Four workers, so the parallel path runs even where the common pool has a single one
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    // Held here so WeakHashMap keeps its entries, and shared so IdentityHashMap finds them
+    private static final Integer[] KEYS = new Integer[SIZE];
+
+    static {
+        for (int i = 0; i < SIZE; i++) {
+            KEYS[i] = i;
+        }
+    }
+
+    @AfterClass
+    public static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    private static <M extends Map<Integer, AtomicInteger>> M counters(Supplier<M> factory) {
+        M map = factory.get();
+        for (int i = 0; i < SIZE; i++) {
+            map.put(KEYS[i], new AtomicInteger());
+        }
+        return map;
+    }
+
+    private static <M extends Map<Integer, Integer>> M zeros(Supplier<M> factory) {
+        M map = factory.get();
+        for (int i = 0; i < SIZE; i++) {
+            map.put(KEYS[i], 0);
+        }
+        return map;
+    }
+
+    private static List<Supplier<Map<Integer, AtomicInteger>>> counterMaps() {
+        return Arrays.asList(HashMap::new, ConcurrentHashMap::new, TreeMap::new,
+                LinkedHashMap::new, IdentityHashMap::new, WeakHashMap::new, ConcurrentSkipListMap::new);
+    }
+
+    private static List<Supplier<Map<Integer, Integer>>> valueMaps() {
+        return Arrays.asList(HashMap::new, ConcurrentHashMap::new, TreeMap::new,
+                LinkedHashMap::new, IdentityHashMap::new, WeakHashMap::new, ConcurrentSkipListMap::new);
+    }
+
+    private static boolean onPoolWorker() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == POOL;
+    }
+
+    @Test
+    public void updateValuesTouchesEveryEntryOnce() {
+        for (Supplier<Map<Integer, AtomicInteger>> factory : counterMaps()) {
+            Map<Integer, AtomicInteger> map = counters(factory);
+            String type = map.getClass().getSimpleName();
+            AtomicInteger onWorkers = new AtomicInteger();
+            long touched = ParallelBulkUpdate.updateValues(map, (key, counter) -> {
+                counter.incrementAndGet();
+                if (onPoolWorker()) {
+                    onWorkers.incrementAndGet();
+                }
+            }, POOL);
+            assertEquals(type, SIZE, touched);
+            map.forEach((key, counter) -> assertEquals(type + " " + key, 1, counter.get()));
+            Class<?> exact = map.getClass();
+            if (exact == HashMap.class || exact == ConcurrentHashMap.class || exact == TreeMap.class) {
+                assertEquals(type + " runs on the pool", SIZE, onWorkers.get());
+            } else {
+                assertEquals(type + " runs on the caller", 0, onWorkers.get());
+            }
+        }
+    }
+
+    @Test
+    public void replaceValuesReplacesEveryEntryOnce() {
+        for (Supplier<Map<Integer, Integer>> factory : valueMaps()) {
+            Map<Integer, Integer> map = zeros(factory);
+            String type = map.getClass().getSimpleName();
+            long touched = ParallelBulkUpdate.replaceValues(map, (key, value) -> value + 1, POOL);
+            assertEquals(type, SIZE, touched);
+            assertEquals(type, SIZE, map.size());
+            map.forEach((key, value) -> assertEquals(type + " " + key, 1, value.intValue()));
+        }
+    }
+
+    @Test
+    public void updateElementsTouchesEveryElementOnce() {
+        for (List<AtomicInteger> list : Arrays.<List<AtomicInteger>>asList(new ArrayList<>(), new LinkedList<>())) {
+            for (int i = 0; i < SIZE; i++) {
+                list.add(new AtomicInteger());
+            }
+            AtomicInteger onWorkers = new AtomicInteger();
+            long touched = ParallelBulkUpdate.updateElements(list, 2, (counter, delta) -> {
+                counter.addAndGet(delta);
+                if (onPoolWorker()) {
+                    onWorkers.incrementAndGet();
+                }
+            }, POOL);
+            assertEquals(SIZE, touched);
+            list.forEach(counter -> assertEquals(2, counter.get()));
+            assertEquals(list instanceof RandomAccess ? SIZE : 0, onWorkers.get());
+        }
+    }
+
+    @Test
+    public void replaceElementsReplacesEveryElementOnce() {
+        for (List<Integer> list : Arrays.<List<Integer>>asList(new ArrayList<>(), new LinkedList<>())) {
+            for (int i = 0; i < SIZE; i++) {
+                list.add(i);
+            }
+            long touched = ParallelBulkUpdate.replaceElements(list, 3, (element, delta) -> element * delta, POOL);
+            assertEquals(SIZE, touched);
+            int i = 0;
+            for (Integer element : list) {
+                assertEquals(3 * i++, element.intValue());
+            }
+        }
+    }
+}